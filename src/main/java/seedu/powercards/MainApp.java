@@ -3,6 +3,7 @@ package seedu.powercards;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -21,13 +22,16 @@ import seedu.powercards.model.ModelManager;
 import seedu.powercards.model.ReadOnlyMasterDeck;
 import seedu.powercards.model.ReadOnlyUserPrefs;
 import seedu.powercards.model.UserPrefs;
+import seedu.powercards.model.card.TextArena;
 import seedu.powercards.model.util.SampleDataUtil;
-import seedu.powercards.storage.JsonMasterDeckStorage;
+import seedu.powercards.storage.BinaryMasterDeckStorage;
 import seedu.powercards.storage.JsonUserPrefsStorage;
 import seedu.powercards.storage.MasterDeckStorage;
+import seedu.powercards.storage.ShardedMasterDeckStorage;
 import seedu.powercards.storage.Storage;
 import seedu.powercards.storage.StorageManager;
 import seedu.powercards.storage.UserPrefsStorage;
+import seedu.powercards.storage.WriteBehindStorage;
 import seedu.powercards.ui.Ui;
 import seedu.powercards.ui.UiManager;
 
@@ -42,7 +46,7 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
-    protected Storage storage;
+    protected WriteBehindStorage storage;
     protected Model model;
     protected Config config;
 
@@ -56,16 +60,25 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MasterDeckStorage masterDeckStorage = new JsonMasterDeckStorage(userPrefs.getMasterDeckFilePath());
-        storage = new StorageManager(masterDeckStorage, userPrefsStorage);
+        Path masterDeckFilePath = userPrefs.getMasterDeckFilePath();
+        MasterDeckStorage masterDeckStorage = new ShardedMasterDeckStorage(
+                ShardedMasterDeckStorage.getShardDirectory(masterDeckFilePath),
+                new BinaryMasterDeckStorage(masterDeckFilePath), true);
+        storage = new WriteBehindStorage(new StorageManager(masterDeckStorage, userPrefsStorage));
 
         initLogging(config);
+        TextArena.initShared(config.getTextArenaMegabytes());
 
         model = initModelManager(storage, userPrefs);
+        model.setLoadedDeckLimit(config.getLoadedDeckLimit());
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        storage.setWriteFailureHandler(ioe -> {
+            logic.handleSaveFailure();
+            ui.showFeedbackToUser(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe);
+        });
     }
 
     /**
@@ -77,7 +90,10 @@ public class MainApp extends Application {
         Optional<ReadOnlyMasterDeck> masterDeckOptional;
         ReadOnlyMasterDeck initialData;
         try {
+            long readStartTime = System.nanoTime();
             masterDeckOptional = storage.readMasterDeck();
+            logger.info(String.format("Read data file in %d ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - readStartTime)));
             if (masterDeckOptional.isEmpty()) {
                 logger.info("Data file not found. Will be starting with a sample Deck");
             }
@@ -174,6 +190,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PowerCards ] =============================");
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save master deck " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int loadedDeckLimit = 0;
+    private int textArenaMegabytes = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the most recently opened decks whose cards are kept in memory, or 0 to keep every opened deck.
+     */
+    public int getLoadedDeckLimit() {
+        return loadedDeckLimit;
+    }
+
+    public void setLoadedDeckLimit(int loadedDeckLimit) {
+        this.loadedDeckLimit = loadedDeckLimit;
+    }
+
+    /**
+     * Returns the megabytes of memory outside the heap in which the question and answer text of cards is kept,
+     * or 0 to keep all text on the heap.
+     */
+    public int getTextArenaMegabytes() {
+        return textArenaMegabytes;
+    }
+
+    public void setTextArenaMegabytes(int textArenaMegabytes) {
+        this.textArenaMegabytes = textArenaMegabytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +69,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && loadedDeckLimit == o.loadedDeckLimit
+                && textArenaMegabytes == o.textArenaMegabytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, loadedDeckLimit, textArenaMegabytes);
     }
 
     @Override
@@ -57,6 +84,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nLoaded deck limit : " + loadedDeckLimit);
+        sb.append("\nText arena (MB) : " + textArenaMegabytes);
         return sb.toString();
     }
 
@@ -8,6 +8,7 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_CARD_DISPLAYED_INDEX = "The card index provided is invalid";
+    public static final String MESSAGE_INVALID_CARD_ID = "No card has the card id provided";
     public static final String MESSAGE_INVALID_DECK_DISPLAYED_INDEX = "The deck index provided is invalid";
     public static final String MESSAGE_CARDS_LISTED_OVERVIEW = "%1$d card(s) listed!";
     public static final String MESSAGE_DECKS_LISTED_OVERVIEW = "%1$d deck(s) listed!";
@@ -0,0 +1,180 @@
+package seedu.powercards.commons.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from {@code long} keys to {@code int} values that stores both in primitive arrays, so that neither
+ * keys nor values are boxed and there is no entry object per mapping.
+ *
+ * Uses open addressing with linear probing, and keeps the table at most half full. Removal shifts later entries
+ * of the same probe run back instead of leaving tombstones, so lookups never slow down after many removals.
+ */
+public class LongIntHashMap {
+
+    private static final long EMPTY_KEY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    // The key 0 marks an empty slot, so a mapping of 0 is kept outside the table.
+    private boolean hasZeroKey;
+    private int zeroKeyValue;
+
+    public LongIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a map that holds {@code expectedSize} mappings without resizing.
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if {@code key} is mapped to a value.
+     */
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey;
+        }
+        return keys[slotOf(key)] == key;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if there is none.
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey ? zeroKeyValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == key ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any previous mapping of {@code key}.
+     */
+    public void put(long key, int value) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return;
+        }
+
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            values[slot] = value;
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes the mapping of {@code key}, if any.
+     *
+     * @return true if there was a mapping to remove.
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY_KEY) {
+            boolean hadZeroKey = hasZeroKey;
+            if (hadZeroKey) {
+                hasZeroKey = false;
+                size--;
+            }
+            return hadZeroKey;
+        }
+
+        int gap = slotOf(key);
+        if (keys[gap] != key) {
+            return false;
+        }
+        // Moves back each later entry of the probe run that may occupy the gap, that is, whose home slot is not
+        // between the gap and where the entry is now.
+        for (int slot = (gap + 1) & mask; keys[slot] != EMPTY_KEY; slot = (slot + 1) & mask) {
+            int home = homeSlotOf(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY_KEY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every mapping.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the empty slot where it would be inserted.
+     */
+    private int slotOf(long key) {
+        int slot = homeSlotOf(key);
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int homeSlotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L; // spreads keys that differ only in their high bits
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the smallest power of two table size that keeps {@code expectedSize} mappings at most half full.
+     */
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
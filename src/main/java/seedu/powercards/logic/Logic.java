@@ -26,6 +26,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the number of commands after which saving was skipped because the master deck was unchanged.
+     */
+    int getSkippedSaveCount();
+
+    /**
+     * Makes the next command save the master deck, as a save that storage wrote after the command returned has failed.
+     * May be called from any thread.
+     */
+    void handleSaveFailure();
+
     /**
      * Returns the Deck.
      *
@@ -35,6 +35,13 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final MasterDeckParser masterDeckParser;
 
+    /**
+     * Master deck version at the last save handed to storage, or -1 if nothing has been saved yet or the last save
+     * failed. Reset on the storage writer thread when a write that storage finishes later fails.
+     */
+    private volatile long savedVersion = -1;
+    private int skippedSaveCount = 0;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -68,7 +75,7 @@ public class LogicManager implements Logic {
         CommandResult commandResult = command.execute(model);
 
         try {
-            storage.saveMasterDeck(model.getMasterDeck());
+            saveMasterDeckIfChanged();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -76,6 +83,38 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the master deck unless it is unchanged since the last successful save.
+     * Commands such as {@code flip} and {@code next} do not modify the master deck, so they do not hit the disk.
+     *
+     * The saved version is set before the save is handed to storage, so that a failure reported by
+     * {@link #handleSaveFailure()} once storage has written it in the background is never overwritten.
+     */
+    private void saveMasterDeckIfChanged() throws IOException {
+        long version = model.getMasterDeckVersion();
+        if (version == savedVersion) {
+            skippedSaveCount++;
+            return;
+        }
+        savedVersion = version;
+        try {
+            storage.saveMasterDeck(model.getMasterDeck());
+        } catch (IOException ioe) {
+            savedVersion = -1;
+            throw ioe;
+        }
+    }
+
+    @Override
+    public void handleSaveFailure() {
+        savedVersion = -1;
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyMasterDeck getMasterDeck() {
         return model.getMasterDeck();
@@ -135,9 +174,11 @@ public class LogicManager implements Logic {
         model.setMasterDeck(new MasterDeck());
         model.updateFilteredCardList(Model.PREDICATE_SHOW_ALL_CARDS);
         model.updateFilteredDeckList(Model.PREDICATE_SHOW_ALL_DECKS);
+        savedVersion = model.getMasterDeckVersion();
         try {
             storage.saveMasterDeck(model.getMasterDeck());
         } catch (IOException ioe) {
+            savedVersion = -1;
             logger.info("Something went wrong while resetting data.");
         }
     }
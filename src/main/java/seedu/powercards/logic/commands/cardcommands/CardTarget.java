@@ -0,0 +1,83 @@
+package seedu.powercards.logic.commands.cardcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.powercards.commons.core.Messages;
+import seedu.powercards.commons.core.index.Index;
+import seedu.powercards.logic.commands.exceptions.CommandException;
+import seedu.powercards.model.Model;
+import seedu.powercards.model.card.Card;
+
+/**
+ * Identifies the card a command acts on, either by its index in the displayed card list or by its id.
+ * Unlike an index, an id keeps referring to the same card when the displayed list is filtered or reordered.
+ */
+public class CardTarget {
+
+    public static final String ID_MARKER = "#";
+
+    private final Index index;
+    private final long id;
+
+    private CardTarget(Index index, long id) {
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Returns a target of the card at {@code index} of the displayed card list.
+     */
+    public static CardTarget ofIndex(Index index) {
+        requireNonNull(index);
+        return new CardTarget(index, Card.NO_ID);
+    }
+
+    /**
+     * Returns a target of the card with {@code id}.
+     */
+    public static CardTarget ofId(long id) {
+        assert id != Card.NO_ID;
+        return new CardTarget(null, id);
+    }
+
+    /**
+     * Returns the targeted card of {@code model}.
+     *
+     * @throws CommandException if there is no such card.
+     */
+    public Card getCard(Model model) throws CommandException {
+        requireNonNull(model);
+        if (index == null) {
+            return model.getCardById(id)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CARD_ID));
+        }
+
+        List<Card> lastShownList = model.getFilteredCardList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CardTarget)) {
+            return false;
+        }
+
+        CardTarget otherTarget = (CardTarget) other;
+        return index == null
+                ? otherTarget.index == null && id == otherTarget.id
+                : index.equals(otherTarget.index);
+    }
+
+    @Override
+    public String toString() {
+        return index == null ? ID_MARKER + id : String.valueOf(index.getOneBased());
+    }
+}
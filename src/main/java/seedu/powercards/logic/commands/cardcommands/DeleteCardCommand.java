@@ -2,9 +2,6 @@ package seedu.powercards.logic.commands.cardcommands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
-import seedu.powercards.commons.core.Messages;
 import seedu.powercards.commons.core.index.Index;
 import seedu.powercards.logic.commands.Command;
 import seedu.powercards.logic.commands.commandresult.CommandResult;
@@ -13,35 +10,38 @@ import seedu.powercards.model.Model;
 import seedu.powercards.model.card.Card;
 
 /**
- * Deletes a card identified using it's displayed index from the selected deck.
+ * Deletes a card identified using it's displayed index or its id from the selected deck.
  */
 public class DeleteCardCommand extends Command {
 
     public static final String COMMAND_WORD = "deleteCard";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the card identified by the index number used in the displayed selected deck.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + ": Deletes the card identified by the index number used in the displayed selected deck, "
+            + "or by its card id.\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_CARD_SUCCESS = "Deleted Card: %1$s";
 
-    private final Index targetIndex;
+    private final CardTarget target;
 
     public DeleteCardCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(CardTarget.ofIndex(targetIndex));
+    }
+
+    /**
+     * @param target the card to delete
+     */
+    public DeleteCardCommand(CardTarget target) {
+        requireNonNull(target);
+        this.target = target;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Card> lastShownList = model.getFilteredCardList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX);
-        }
-
-        Card cardToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Card cardToDelete = target.getCard(model);
         model.deleteCard(cardToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_CARD_SUCCESS, cardToDelete));
     }
@@ -50,6 +50,6 @@ public class DeleteCardCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCardCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCardCommand) other).targetIndex)); // state check
+                && target.equals(((DeleteCardCommand) other).target)); // state check
     }
 }
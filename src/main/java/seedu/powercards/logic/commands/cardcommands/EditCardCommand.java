@@ -5,10 +5,8 @@ import static seedu.powercards.logic.parser.CliSyntax.PREFIX_ANSWER;
 import static seedu.powercards.logic.parser.CliSyntax.PREFIX_QUESTION;
 import static seedu.powercards.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.List;
 import java.util.Optional;
 
-import seedu.powercards.commons.core.Messages;
 import seedu.powercards.commons.core.index.Index;
 import seedu.powercards.commons.util.CollectionUtil;
 import seedu.powercards.logic.commands.Command;
@@ -29,9 +27,9 @@ public class EditCardCommand extends Command {
     public static final String COMMAND_WORD = "editCard";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the card identified "
-            + "by the index number used in the displayed card list. "
+            + "by the index number used in the displayed card list, or by its card id. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or #ID "
             + "[" + PREFIX_QUESTION + "QUESTION] "
             + "[" + PREFIX_ANSWER + "ANSWER] "
             + "[" + PREFIX_TAG + "TAG]\n"
@@ -45,7 +43,7 @@ public class EditCardCommand extends Command {
     public static final String MESSAGE_DUPLICATE_CARD = "A card with the same question "
             + "already exists in this selected deck.";
 
-    private final Index index;
+    private final CardTarget target;
     private final EditCardDescriptor editCardDescriptor;
 
     /**
@@ -53,23 +51,25 @@ public class EditCardCommand extends Command {
      * @param editCardDescriptor details to edit the card with
      */
     public EditCardCommand(Index index, EditCardDescriptor editCardDescriptor) {
-        requireNonNull(index);
+        this(CardTarget.ofIndex(index), editCardDescriptor);
+    }
+
+    /**
+     * @param target the card to edit
+     * @param editCardDescriptor details to edit the card with
+     */
+    public EditCardCommand(CardTarget target, EditCardDescriptor editCardDescriptor) {
+        requireNonNull(target);
         requireNonNull(editCardDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editCardDescriptor = new EditCardDescriptor(editCardDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Card> lastShownList = model.getFilteredCardList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX);
-        }
-
-        Card cardToEdit = lastShownList.get(index.getZeroBased());
+        Card cardToEdit = target.getCard(model);
         Card editedCard = createEditedCard(cardToEdit, editCardDescriptor);
 
         if (!cardToEdit.isSameCard(editedCard) && model.hasCard(editedCard)) {
@@ -94,7 +94,8 @@ public class EditCardCommand extends Command {
         assert cardToEdit.getDeck() != null : "The edited card must be inside a deck";
         Deck updatedDeck = cardToEdit.getDeck();
 
-        return new Card(updatedQuestion, updatedAnswer, updatedTag, updatedDeck);
+        return new Card(updatedQuestion, updatedAnswer, updatedTag, updatedDeck, cardToEdit.getId(),
+                cardToEdit.getSchedule()); // an edited card keeps its place in the review schedule
     }
 
     @Override
@@ -111,7 +112,7 @@ public class EditCardCommand extends Command {
 
         // state check
         EditCardCommand e = (EditCardCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && editCardDescriptor.equals(e.editCardDescriptor);
     }
 
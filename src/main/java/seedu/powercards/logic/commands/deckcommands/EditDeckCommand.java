@@ -11,6 +11,7 @@ import seedu.powercards.logic.commands.commandresult.CommandResult;
 import seedu.powercards.logic.commands.exceptions.CommandException;
 import seedu.powercards.model.Model;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
 
 /**
  * Edits the name of the deck
@@ -60,7 +61,11 @@ public class EditDeckCommand extends Command {
 
         Deck deckToEdit = lastShownList.get(index.getZeroBased());
 
-        model.setDeck(deckToEdit, editedDeck);
+        try {
+            model.setDeck(deckToEdit, editedDeck);
+        } catch (DeckLoadException dle) {
+            throw new CommandException(dle.getMessage(), dle);
+        }
         model.moveCards(deckToEdit, editedDeck);
 
         return new CommandResult(String.format(MESSAGE_EDIT_DECK_SUCCESS,
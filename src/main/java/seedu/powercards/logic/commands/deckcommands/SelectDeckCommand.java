@@ -10,6 +10,7 @@ import seedu.powercards.logic.commands.commandresult.CommandResult;
 import seedu.powercards.logic.commands.exceptions.CommandException;
 import seedu.powercards.model.Model;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
 
 
 /**
@@ -45,7 +46,11 @@ public class SelectDeckCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_DECK_DISPLAYED_INDEX);
         }
 
-        model.selectDeck(deckIndex);
+        try {
+            model.selectDeck(deckIndex);
+        } catch (DeckLoadException dle) {
+            throw new CommandException(dle.getMessage(), dle);
+        }
         return new CommandResult(String.format(MESSAGE_SUCCESS, model.getSelectedDeckName()),
                 false, false, false, false, true, false, false, false, false, false);
     }
@@ -6,6 +6,7 @@ import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.powercards.commons.core.index.Index;
 import seedu.powercards.logic.commands.Command;
@@ -13,6 +14,7 @@ import seedu.powercards.logic.commands.commandresult.CommandResult;
 import seedu.powercards.logic.commands.exceptions.CommandException;
 import seedu.powercards.model.Model;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
 import seedu.powercards.model.tag.Tag.TagName;
 
 
@@ -26,16 +28,24 @@ public class ReviewCommand extends Command {
             + "by the index number used in the displayed deck list and by the tagged difficulty.\n"
             + "Parameter: INDEX (must be a positive integer).\n"
             + "Flags: -e -m -h for EASY, MEDIUM, HARD tags\n"
+            + "Optional: s\\SEED (an integer) to draw the cards in the same order as other reviews with that seed\n"
+            + "Flag: -d to review only the cards due today, most overdue first, without other flags or a seed\n"
             + "Example (to test all cards in deck 1): " + COMMAND_WORD + " 1\n"
             + "Example (to test MEDIUM and HARD cards in deck 1): " + COMMAND_WORD + " 1 -m -h\n"
+            + "Example (to test all cards in deck 1 in a repeatable order): " + COMMAND_WORD + " 1 s\\42\n"
+            + "Example (to test the cards due today in deck 1): " + COMMAND_WORD + " 1 -d\n"
             + "No other input is allowed between the flags.";
 
     public static final String MESSAGE_SUCCESS = "Deck to be reviewed: %1$s\nReviewing cards of %2$s";
+    public static final String MESSAGE_SUCCESS_DUE = "Deck to be reviewed: %1$s\nReviewing cards due today";
     public static final String MESSAGE_EMPTY_DECK = "The deck you chose to review is empty";
     public static final String MESSAGE_NO_CARDS_WITH_TAG = "There are no cards "
             + "tagged with those difficulties in the deck";
+    public static final String MESSAGE_NO_CARDS_DUE = "There are no cards due for review today in the deck";
     private final Index deckIndex;
     private final List<TagName> difficulties;
+    private final Optional<Long> seed;
+    private final boolean isDueReview;
 
     /**
      * Creates a ReviewCommand with the specified index of the deck.
@@ -44,6 +54,35 @@ public class ReviewCommand extends Command {
         requireAllNonNull(idx, difficulties);
         this.deckIndex = idx;
         this.difficulties = difficulties;
+        this.seed = Optional.empty();
+        this.isDueReview = false;
+    }
+
+    /**
+     * Creates a ReviewCommand with the specified index of the deck, whose cards are drawn in the order given by
+     * {@code seed}.
+     */
+    public ReviewCommand(Index idx, List<TagName> difficulties, long seed) {
+        requireAllNonNull(idx, difficulties);
+        this.deckIndex = idx;
+        this.difficulties = difficulties;
+        this.seed = Optional.of(seed);
+        this.isDueReview = false;
+    }
+
+    private ReviewCommand(Index idx) {
+        requireNonNull(idx);
+        this.deckIndex = idx;
+        this.difficulties = List.of();
+        this.seed = Optional.empty();
+        this.isDueReview = true;
+    }
+
+    /**
+     * Creates a ReviewCommand of the cards due today in the deck at the specified index.
+     */
+    public static ReviewCommand ofDueCards(Index idx) {
+        return new ReviewCommand(idx);
     }
 
     @Override
@@ -56,11 +95,21 @@ public class ReviewCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_DECK_DISPLAYED_INDEX);
         } else if (model.getDeckSize(deckIndex.getZeroBased()) == 0) {
             throw new CommandException(MESSAGE_EMPTY_DECK);
+        } else if (isDueReview) {
+            return executeDueReview(model);
         } else if (model.getDeckSizeFilteredTag(deckIndex.getZeroBased(), difficulties) == 0) {
             throw new CommandException(MESSAGE_NO_CARDS_WITH_TAG);
         }
 
-        model.reviewDeck(deckIndex, difficulties);
+        try {
+            if (seed.isPresent()) {
+                model.reviewDeck(deckIndex, difficulties, seed.get());
+            } else {
+                model.reviewDeck(deckIndex, difficulties);
+            }
+        } catch (DeckLoadException dle) {
+            throw new CommandException(dle.getMessage(), dle);
+        }
 
         String diffString = "";
         if (difficulties.containsAll(Arrays.asList(TagName.EASY, TagName.MEDIUM, TagName.HARD))) {
@@ -87,10 +136,27 @@ public class ReviewCommand extends Command {
         );
     }
 
+    private CommandResult executeDueReview(Model model) throws CommandException {
+        try {
+            if (!model.reviewDueCards(deckIndex)) {
+                throw new CommandException(MESSAGE_NO_CARDS_DUE);
+            }
+        } catch (DeckLoadException dle) {
+            throw new CommandException(dle.getMessage(), dle);
+        }
+
+        return new CommandResult(
+                String.format(MESSAGE_SUCCESS_DUE, model.getReviewDeckName()),
+                false, false, true, false, false, false, false, false, false, false
+        );
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ReviewCommand // instanceof handles nulls
-                && deckIndex.equals(((ReviewCommand) other).deckIndex));
+                && deckIndex.equals(((ReviewCommand) other).deckIndex)
+                && seed.equals(((ReviewCommand) other).seed)
+                && isDueReview == ((ReviewCommand) other).isDueReview);
     }
 }
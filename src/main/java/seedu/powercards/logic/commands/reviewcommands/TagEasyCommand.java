@@ -28,7 +28,7 @@ public class TagEasyCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.tagCurrentCardInReview(new Tag(EASY));
+        model.tagCurrentCardInReview(Tag.of(EASY));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -28,7 +28,7 @@ public class TagHardCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.tagCurrentCardInReview(new Tag(HARD));
+        model.tagCurrentCardInReview(Tag.of(HARD));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
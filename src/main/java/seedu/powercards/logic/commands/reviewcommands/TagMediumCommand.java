@@ -28,7 +28,7 @@ public class TagMediumCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.tagCurrentCardInReview(new Tag(MEDIUM));
+        model.tagCurrentCardInReview(Tag.of(MEDIUM));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -9,10 +9,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_QUESTION = new Prefix("q\\");
     public static final Prefix PREFIX_ANSWER = new Prefix("a\\");
     public static final Prefix PREFIX_TAG = new Prefix("t\\");
+    public static final Prefix PREFIX_SEED = new Prefix("s\\");
     public static final Prefix REVIEW_EASY_FLAG = new Prefix("-e");
     public static final Prefix REVIEW_MEDIUM_FLAG = new Prefix("-m");
     public static final Prefix REVIEW_HARD_FLAG = new Prefix("-h");
     public static final Prefix REVIEW_UPPER_EASY_FLAG = new Prefix("-E");
     public static final Prefix REVIEW_UPPER_MEDIUM_FLAG = new Prefix("-M");
     public static final Prefix REVIEW_UPPER_HARD_FLAG = new Prefix("-H");
+    public static final Prefix REVIEW_DUE_FLAG = new Prefix("-d");
+    public static final Prefix REVIEW_UPPER_DUE_FLAG = new Prefix("-D");
 }
@@ -2,7 +2,7 @@ package seedu.powercards.logic.parser;
 
 import static seedu.powercards.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.powercards.commons.core.index.Index;
+import seedu.powercards.logic.commands.cardcommands.CardTarget;
 import seedu.powercards.logic.commands.cardcommands.DeleteCardCommand;
 import seedu.powercards.logic.parser.exceptions.ParseException;
 
@@ -18,8 +18,8 @@ public class DeleteCardCommandParser implements Parser<DeleteCardCommand> {
      */
     public DeleteCardCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteCardCommand(index);
+            CardTarget target = ParserUtil.parseCardTarget(args);
+            return new DeleteCardCommand(target);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCardCommand.MESSAGE_USAGE), pe);
@@ -6,7 +6,7 @@ import static seedu.powercards.logic.parser.CliSyntax.PREFIX_ANSWER;
 import static seedu.powercards.logic.parser.CliSyntax.PREFIX_QUESTION;
 import static seedu.powercards.logic.parser.CliSyntax.PREFIX_TAG;
 
-import seedu.powercards.commons.core.index.Index;
+import seedu.powercards.logic.commands.cardcommands.CardTarget;
 import seedu.powercards.logic.commands.cardcommands.EditCardCommand;
 import seedu.powercards.logic.commands.cardcommands.EditCardCommand.EditCardDescriptor;
 import seedu.powercards.logic.parser.exceptions.ParseException;
@@ -26,10 +26,10 @@ public class EditCardCommandParser implements Parser<EditCardCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_QUESTION, PREFIX_ANSWER, PREFIX_TAG);
 
-        Index index;
+        CardTarget target;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            target = ParserUtil.parseCardTarget(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCardCommand.MESSAGE_USAGE), pe);
         }
@@ -51,7 +51,7 @@ public class EditCardCommandParser implements Parser<EditCardCommand> {
             throw new ParseException(EditCardCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditCardCommand(index, editCardDescriptor);
+        return new EditCardCommand(target, editCardDescriptor);
     }
 
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.powercards.commons.core.index.Index;
 import seedu.powercards.commons.util.StringUtil;
+import seedu.powercards.logic.commands.cardcommands.CardTarget;
 import seedu.powercards.logic.parser.exceptions.ParseException;
 import seedu.powercards.model.card.Answer;
 import seedu.powercards.model.card.Question;
@@ -16,9 +17,12 @@ import seedu.powercards.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_CARD_ID = "Card id is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_INTEGER = "Input must be an integer between 1 and 2147483647 inclusive";
     public static final String MESSAGE_INVALID_LIMIT_INPUT = MESSAGE_INVALID_INTEGER + " or the String 'none'";
     public static final String MESSAGE_MUST_BE_EMPTY = "No inputs allowed";
+    public static final String MESSAGE_INVALID_SEED = "Seed must be an integer between -9223372036854775808 and "
+            + "9223372036854775807 inclusive";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -33,6 +37,29 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code cardTarget} into a {@code CardTarget} and returns it. A card id is marked by a leading
+     * {@code #}, anything else is parsed as a one-based index. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified index or card id is invalid (not non-zero unsigned integer).
+     */
+    public static CardTarget parseCardTarget(String cardTarget) throws ParseException {
+        String trimmedTarget = cardTarget.trim();
+        if (!trimmedTarget.startsWith(CardTarget.ID_MARKER)) {
+            return CardTarget.ofIndex(parseIndex(trimmedTarget));
+        }
+
+        String id = trimmedTarget.substring(CardTarget.ID_MARKER.length());
+        try {
+            long parsedId = Long.parseLong(id);
+            if (parsedId > 0 && !id.startsWith("+")) {
+                return CardTarget.ofId(parsedId);
+            }
+        } catch (NumberFormatException nfe) {
+            // handled below
+        }
+        throw new ParseException(MESSAGE_INVALID_CARD_ID);
+    }
+
     /**
      * Parses a {@code String question} into a {@code Question}.
      * Leading and trailing whitespaces will be trimmed.
@@ -78,7 +105,7 @@ public class ParserUtil {
         }
 
         Tag.TagName tagName = Tag.TagName.valueOf(trimmedTag.toUpperCase());
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
     /**
@@ -113,6 +140,19 @@ public class ParserUtil {
         return Integer.parseInt(trimmedUserInput);
     }
 
+    /**
+     * Parses a String {@code seed} into the seed of a review. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code seed} is not a {@code long}.
+     */
+    public static long parseSeed(String seed) throws ParseException {
+        try {
+            return Long.parseLong(seed.trim());
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_SEED);
+        }
+    }
+
     /**
      * Parses a String {@code userInput} and returns an empty string if input is empty. Leading and trailing whitespaces
      * will be trimmed.
@@ -2,9 +2,12 @@ package seedu.powercards.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.powercards.logic.parser.CliSyntax.PREFIX_SEED;
+import static seedu.powercards.logic.parser.CliSyntax.REVIEW_DUE_FLAG;
 import static seedu.powercards.logic.parser.CliSyntax.REVIEW_EASY_FLAG;
 import static seedu.powercards.logic.parser.CliSyntax.REVIEW_HARD_FLAG;
 import static seedu.powercards.logic.parser.CliSyntax.REVIEW_MEDIUM_FLAG;
+import static seedu.powercards.logic.parser.CliSyntax.REVIEW_UPPER_DUE_FLAG;
 import static seedu.powercards.logic.parser.CliSyntax.REVIEW_UPPER_EASY_FLAG;
 import static seedu.powercards.logic.parser.CliSyntax.REVIEW_UPPER_HARD_FLAG;
 import static seedu.powercards.logic.parser.CliSyntax.REVIEW_UPPER_MEDIUM_FLAG;
@@ -14,6 +17,7 @@ import static seedu.powercards.model.tag.Tag.TagName.MEDIUM;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import seedu.powercards.commons.core.index.Index;
 import seedu.powercards.logic.commands.reviewcommands.ReviewCommand;
@@ -34,7 +38,8 @@ public class ReviewCommandParser implements Parser<ReviewCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, REVIEW_EASY_FLAG, REVIEW_MEDIUM_FLAG, REVIEW_HARD_FLAG,
-                        REVIEW_UPPER_EASY_FLAG, REVIEW_UPPER_MEDIUM_FLAG, REVIEW_UPPER_HARD_FLAG);
+                        REVIEW_UPPER_EASY_FLAG, REVIEW_UPPER_MEDIUM_FLAG, REVIEW_UPPER_HARD_FLAG, PREFIX_SEED,
+                        REVIEW_DUE_FLAG, REVIEW_UPPER_DUE_FLAG);
 
         List<TagName> difficulties = new ArrayList<>();
         Index index;
@@ -45,6 +50,12 @@ public class ReviewCommandParser implements Parser<ReviewCommand> {
                     ReviewCommand.MESSAGE_USAGE), pe);
         }
 
+        boolean isDueReview = argMultimap.getValue(REVIEW_DUE_FLAG).isPresent()
+                || argMultimap.getValue(REVIEW_UPPER_DUE_FLAG).isPresent();
+        if (isDueReview) {
+            return parseDueReview(index, argMultimap);
+        }
+
         if (argMultimap.getValue(REVIEW_EASY_FLAG).isPresent()) {
             difficulties.add(EASY);
             try {
@@ -99,6 +110,37 @@ public class ReviewCommandParser implements Parser<ReviewCommand> {
             }
         }
 
-        return new ReviewCommand(index, difficulties);
+        if (argMultimap.getValue(PREFIX_SEED).isEmpty()) {
+            return new ReviewCommand(index, difficulties);
+        }
+        try {
+            long seed = ParserUtil.parseSeed(argMultimap.getValue(PREFIX_SEED).get());
+            return new ReviewCommand(index, difficulties, seed);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ReviewCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+    /**
+     * Returns a ReviewCommand of the cards due in the deck at {@code index}. The cards due are drawn in order of
+     * their due dates, so no difficulty flags or seed can be given with the due flag.
+     * @throws ParseException if the due flag has a value, or other flags or a seed are given
+     */
+    private ReviewCommand parseDueReview(Index index, ArgumentMultimap argMultimap) throws ParseException {
+        Prefix dueFlag = argMultimap.getValue(REVIEW_DUE_FLAG).isPresent() ? REVIEW_DUE_FLAG : REVIEW_UPPER_DUE_FLAG;
+        boolean hasOtherArgs = Stream.of(REVIEW_EASY_FLAG, REVIEW_MEDIUM_FLAG, REVIEW_HARD_FLAG,
+                REVIEW_UPPER_EASY_FLAG, REVIEW_UPPER_MEDIUM_FLAG, REVIEW_UPPER_HARD_FLAG, PREFIX_SEED)
+                .anyMatch(prefix -> argMultimap.getValue(prefix).isPresent());
+        try {
+            ParserUtil.parseEmptyInput(argMultimap.getValue(dueFlag).get());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ReviewCommand.MESSAGE_USAGE), pe);
+        }
+        if (hasOtherArgs) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReviewCommand.MESSAGE_USAGE));
+        }
+        return ReviewCommand.ofDueCards(index);
     }
 }
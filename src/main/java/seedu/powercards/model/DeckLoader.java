@@ -0,0 +1,21 @@
+package seedu.powercards.model;
+
+import java.util.List;
+
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
+
+/**
+ * Loads the cards of a deck that a {@link MasterDeck} only holds the name and tag counts of.
+ */
+@FunctionalInterface
+public interface DeckLoader {
+
+    /**
+     * Returns the cards of {@code deck}, in order.
+     *
+     * @throws DeckLoadException if the cards cannot be read.
+     */
+    List<Card> loadCards(Deck deck);
+}
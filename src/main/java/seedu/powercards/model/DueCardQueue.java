@@ -0,0 +1,100 @@
+package seedu.powercards.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+import seedu.powercards.model.card.Card;
+
+/**
+ * The cards of one deck in the order they are due for review, so that the cards due can be drawn without scanning
+ * the deck: drawing {@code N} cards from a deck of {@code n} takes {@code O(N log n)}.
+ *
+ * The queue holds the due date and id of each card rather than the card. An entry is not removed when its card is
+ * rescheduled, moved or removed; an entry for the card as it is now is added instead, and entries that no longer
+ * match their card are dropped as they reach the head of the queue. Once there are more than twice as many entries
+ * as cards in the deck, the queue is rebuilt from the deck.
+ */
+class DueCardQueue {
+
+    private static final int MIN_REBUILT_SIZE = 16;
+
+    private PriorityQueue<Entry> entries;
+
+    /**
+     * Creates a queue of {@code cardsInDeck}.
+     */
+    DueCardQueue(List<Card> cardsInDeck) {
+        rebuild(cardsInDeck);
+    }
+
+    /**
+     * Adds {@code card}, as it is now in the deck, to the queue.
+     * The queue is rebuilt from {@code cardsInDeck} instead if it holds too many entries that no longer match.
+     */
+    void add(Card card, List<Card> cardsInDeck) {
+        if (entries.size() >= Math.max(MIN_REBUILT_SIZE, cardsInDeck.size() * 2)) {
+            rebuild(cardsInDeck);
+        } else {
+            entries.add(new Entry(card));
+        }
+    }
+
+    /**
+     * Returns up to {@code count} cards due on or before {@code dueEpochDay}, earliest due first, leaving them in
+     * the queue. {@code cardById} returns the card in the deck with a given id, or null if there is none.
+     */
+    List<Card> peekDue(int count, long dueEpochDay, LongFunction<Card> cardById) {
+        List<Card> dueCards = new ArrayList<>();
+        List<Entry> drawnEntries = new ArrayList<>();
+        Set<Long> drawnIds = new HashSet<>();
+        while (dueCards.size() < count && !entries.isEmpty() && entries.peek().dueEpochDay <= dueEpochDay) {
+            Entry entry = entries.poll();
+            Card card = cardById.apply(entry.id);
+            boolean isCurrent = card != null && card.getSchedule().getDueEpochDay() == entry.dueEpochDay;
+            if (isCurrent && drawnIds.add(entry.id)) {
+                dueCards.add(card);
+                drawnEntries.add(entry);
+            }
+        }
+        entries.addAll(drawnEntries);
+        return dueCards;
+    }
+
+    /**
+     * Returns the number of entries in the queue, including those that no longer match their card.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void rebuild(List<Card> cardsInDeck) {
+        List<Entry> rebuilt = new ArrayList<>(cardsInDeck.size());
+        for (Card card : cardsInDeck) {
+            rebuilt.add(new Entry(card));
+        }
+        entries = new PriorityQueue<>(rebuilt); // heapified in linear time
+    }
+
+    /**
+     * The due date of a card with the given id, ordered by due date and then by id.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        final long dueEpochDay;
+        final long id;
+
+        Entry(Card card) {
+            this.dueEpochDay = card.getSchedule().getDueEpochDay();
+            this.id = card.getId();
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byDueDate = Long.compare(dueEpochDay, other.dueEpochDay);
+            return byDueDate != 0 ? byDueDate : Long.compare(id, other.id);
+        }
+    }
+}
@@ -1,26 +1,60 @@
 package seedu.powercards.model;
 
 import static java.util.Objects.requireNonNull;
-
+import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
+import seedu.powercards.commons.util.LongIntHashMap;
 import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.Schedule;
 import seedu.powercards.model.card.UniqueCardList;
+import seedu.powercards.model.card.exceptions.DuplicateCardException;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.DeckRegistry;
 import seedu.powercards.model.deck.UniqueDeckList;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
 import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameCard comparison)
+ * The cards of a deck all refer to one canonical instance of the deck, kept in a {@code DeckRegistry}.
+ * The cards of each deck are also kept in a list per deck, and the position of each card in its deck's list is
+ * kept by card id, so that a card can be replaced there without searching the list.
+ * A deck whose due cards have been asked for also keeps a {@code DueCardQueue} of its cards by due date, which is
+ * kept up to date from then on.
+ * Each deck has a revision that changes with its cards, see {@link #getDeckRevision(Deck)}, so that a storage can
+ * tell which decks to write without comparing their cards.
  */
 public class MasterDeck implements ReadOnlyMasterDeck {
 
+    private static final AtomicLong lastRevision = new AtomicLong();
+
     private final UniqueCardList cards;
     private final UniqueDeckList decks;
-
+    private final DeckRegistry deckRegistry = new DeckRegistry();
+    private final Map<Deck, List<Card>> cardsByDeck = new HashMap<>();
+    private final Map<Deck, int[]> tagCountsByDeck = new HashMap<>();
+    private final LongIntHashMap positionsInDeckById = new LongIntHashMap();
+    private final Map<Deck, DueCardQueue> dueCardQueuesByDeck = new HashMap<>();
+    private final Set<Deck> unloadedDecks = new HashSet<>();
+    private final Map<Deck, Long> revisionsByDeck = new HashMap<>(); // of decks changed since the cards were set
+    private long setRevision = nextRevision(); // of the decks unchanged since the cards were set
+    private DeckLoader deckLoader;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -49,13 +83,30 @@ public class MasterDeck implements ReadOnlyMasterDeck {
     /**
      * Replaces the contents of the card list with {@code cards}.
      * {@code cards} must not contain duplicate cards.
+     * Every deck counts as loaded afterwards, see {@link #setUnloadedDecks(Map, DeckLoader)}.
      */
     public void setCards(List<Card> cards) {
-        this.cards.setCards(cards);
+        deckRegistry.clear();
+        List<Card> canonicalCards = canonicalize(cards);
+        this.decks.forEach(deckRegistry::intern);
+
+        this.cards.setCards(canonicalCards);
+        cardsByDeck.clear();
+        tagCountsByDeck.clear();
+        positionsInDeckById.clear();
+        dueCardQueuesByDeck.clear();
+        unloadedDecks.clear();
+        revisionsByDeck.clear();
+        setRevision = nextRevision();
+        deckLoader = null;
+        this.cards.forEach(this::addToPartition);
+        version++;
     }
 
     public void setDecks(List<Deck> decks) {
         this.decks.setDecks(decks);
+        decks.forEach(deckRegistry::intern);
+        version++;
     }
 
     /**
@@ -66,6 +117,17 @@ public class MasterDeck implements ReadOnlyMasterDeck {
 
         setCards(newData.getCardList());
         setDecks(newData.getDeckList());
+        if (newData instanceof MasterDeck) {
+            MasterDeck other = (MasterDeck) newData;
+            for (Deck deck : other.unloadedDecks) {
+                tagCountsByDeck.put(deck, other.tagCountsByDeck.get(deck).clone());
+            }
+            unloadedDecks.addAll(other.unloadedDecks);
+            revisionsByDeck.putAll(other.revisionsByDeck);
+            setRevision = other.setRevision; // the copy holds the same cards as the original
+            deckLoader = other.deckLoader;
+            cards.reserveIds(other.cards.getNextId() - 1);
+        }
     }
 
     //// card-level operations
@@ -83,7 +145,10 @@ public class MasterDeck implements ReadOnlyMasterDeck {
      * The card must not already exist in the master deck.
      */
     public void addCard(Card p) {
-        cards.add(p);
+        Card card = cards.add(canonicalize(p));
+        addToPartition(card);
+        markChanged(card.getDeck());
+        version++;
     }
 
     /**
@@ -92,12 +157,41 @@ public class MasterDeck implements ReadOnlyMasterDeck {
      * The card identity of {@code editedCard} must not be the same as another existing card in the master deck.
      */
     public void setCard(Card target, Card editedCard) {
+        replaceCard(target, editedCard);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedCard} as {@link #setCard(Card, Card)} does, and returns the card
+     * as it is stored.
+     */
+    private Card replaceCard(Card target, Card editedCard) {
         requireNonNull(editedCard);
-        cards.setCard(target, editedCard);
+        Card canonicalCard = cards.setCard(target, canonicalize(editedCard));
+
+        int position = positionsInDeckById.getOrDefault(canonicalCard.getId(), -1); // the edited card keeps its id
+        List<Card> cardsInDeck = cardsByDeck.get(target.getDeck());
+        Card replacedCard = cardsInDeck.get(position);
+        if (target.isInDeck(canonicalCard.getDeck())) {
+            cardsInDeck.set(position, canonicalCard);
+            int[] tagCounts = tagCountsByDeck.get(target.getDeck());
+            tagCounts[replacedCard.getTag().tagName.ordinal()]--;
+            tagCounts[canonicalCard.getTag().tagName.ordinal()]++;
+            if (replacedCard.getSchedule().getDueEpochDay() != canonicalCard.getSchedule().getDueEpochDay()) {
+                addToDueCardQueue(canonicalCard);
+            }
+        } else {
+            removeFromPartition(replacedCard);
+            addToPartition(canonicalCard);
+        }
+        markChanged(target.getDeck());
+        markChanged(canonicalCard.getDeck());
+        version++;
+        return canonicalCard;
     }
 
     /**
      * Tags the given card in the list with the new tag.
+     * The card is found by its identity and replaced in place, without searching the list of its deck.
      *
      * @param target Card to be tagged.
      * @param tag New tag.
@@ -106,12 +200,273 @@ public class MasterDeck implements ReadOnlyMasterDeck {
         setCard(target, target.buildCardWithtag(tag));
     }
 
+    /**
+     * Tags the given card in the list with the new tag, as in a review on {@code today}, and schedules its next
+     * review from how well it was recalled, see {@link Schedule#next(TagName, LocalDate)}.
+     *
+     * @param target Card to be tagged, as it is in the list.
+     * @param tag New tag.
+     * @param today Date of the review.
+     * @return the tagged card, as it is stored.
+     */
+    public Card reviewCard(Card target, Tag tag, LocalDate today) {
+        return reviewCard(target, target.getSchedule(), tag, today);
+    }
+
+    /**
+     * Tags the given card in the list with the new tag, as in a review on {@code today}, and schedules its next
+     * review from {@code scheduleAtReviewStart}, the schedule of the card when the review started. Tagging a card
+     * again in the same review thus reschedules it as if it was only tagged the last time.
+     *
+     * @param target Card to be tagged, as it is in the list.
+     * @param scheduleAtReviewStart Schedule of the card when the review started.
+     * @param tag New tag.
+     * @param today Date of the review.
+     * @return the tagged card, as it is stored.
+     */
+    public Card reviewCard(Card target, Schedule scheduleAtReviewStart, Tag tag, LocalDate today) {
+        requireAllNonNull(target, scheduleAtReviewStart, tag, today);
+        Schedule nextSchedule = scheduleAtReviewStart.next(tag.tagName, today);
+        return replaceCard(target, target.buildCardWithtag(tag).buildCardWithSchedule(nextSchedule));
+    }
+
     /**
      * Removes {@code key} from this {@code Deck}.
      * {@code key} must exist in the MasterDeck.
      */
     public void removeCard(Card key) {
-        cards.remove(key);
+        Card removedCard = cards.remove(key);
+        removeFromPartition(removedCard);
+        markChanged(key.getDeck());
+        version++;
+    }
+
+    /**
+     * Returns the card with the given {@code id}, if it is loaded.
+     */
+    public Optional<Card> getCardById(long id) {
+        return cards.getById(id);
+    }
+
+    /**
+     * Keeps new cards from being given ids up to {@code maxId}, such as the ids of cards in decks not loaded yet.
+     */
+    public void reserveCardIds(long maxId) {
+        cards.reserveIds(maxId);
+    }
+
+    /**
+     * Returns an unmodifiable view of the cards in {@code deck}, without scanning the whole card list.
+     * The view is empty if the deck has no cards, or its cards are not loaded yet.
+     */
+    @Override
+    public List<Card> getCardsInDeck(Deck deck) {
+        requireNonNull(deck);
+        return Collections.unmodifiableList(cardsByDeck.getOrDefault(deck, Collections.emptyList()));
+    }
+
+    /**
+     * Returns up to {@code count} cards in {@code deck} that are due for review on {@code today}, earliest due
+     * first, without scanning the deck. There are none if the cards of the deck are not loaded.
+     * The first call for a deck orders its cards by due date, which later calls keep up to date.
+     */
+    public List<Card> getDueCards(Deck deck, int count, LocalDate today) {
+        requireAllNonNull(deck, today);
+        List<Card> cardsInDeck = cardsByDeck.get(deck);
+        if (cardsInDeck == null || count <= 0) {
+            return Collections.emptyList();
+        }
+        DueCardQueue dueCardQueue = dueCardQueuesByDeck.computeIfAbsent(deck,
+                unused -> new DueCardQueue(cardsInDeck));
+        return dueCardQueue.peekDue(count, today.toEpochDay(), id -> getCardInDeck(cardsInDeck, id));
+    }
+
+    /**
+     * Returns the number of cards in {@code deck}.
+     */
+    public int getDeckSize(Deck deck) {
+        if (unloadedDecks.contains(deck)) {
+            return Arrays.stream(tagCountsByDeck.get(deck)).sum();
+        }
+        return getCardsInDeck(deck).size();
+    }
+
+    /**
+     * Returns the number of cards in {@code deck} tagged with any of {@code tagNames}.
+     * An empty {@code tagNames} counts every card in the deck, as {@code CardHasTagPredicate} does.
+     */
+    public int getDeckSize(Deck deck, List<TagName> tagNames) {
+        requireAllNonNull(deck, tagNames);
+        int[] tagCounts = tagCountsByDeck.get(deck);
+        if (tagCounts == null) {
+            return 0;
+        }
+        if (tagNames.isEmpty()) {
+            return getDeckSize(deck);
+        }
+        return tagNames.stream().distinct().mapToInt(tagName -> tagCounts[tagName.ordinal()]).sum();
+    }
+
+    /**
+     * Returns {@code card}, or an equal card that refers to the canonical instance of its deck.
+     */
+    private Card canonicalize(Card card) {
+        Deck canonicalDeck = deckRegistry.intern(card.getDeck());
+        return canonicalDeck == card.getDeck() ? card : card.buildCardWithDeck(canonicalDeck);
+    }
+
+    private List<Card> canonicalize(List<Card> cards) {
+        List<Card> canonicalCards = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            canonicalCards.add(canonicalize(card));
+        }
+        return canonicalCards;
+    }
+
+    private void addToPartition(Card card) {
+        List<Card> cardsInDeck = cardsByDeck.computeIfAbsent(card.getDeck(), unused -> new ArrayList<>());
+        positionsInDeckById.put(card.getId(), cardsInDeck.size());
+        cardsInDeck.add(card);
+        int[] tagCounts = tagCountsByDeck.computeIfAbsent(card.getDeck(),
+                unused -> new int[TagName.values().length]);
+        tagCounts[card.getTag().tagName.ordinal()]++;
+        addToDueCardQueue(card);
+    }
+
+    /**
+     * Adds {@code card}, which must already be in the list of its deck, to the due card queue of its deck, if the
+     * deck has one.
+     */
+    private void addToDueCardQueue(Card card) {
+        DueCardQueue dueCardQueue = dueCardQueuesByDeck.get(card.getDeck());
+        if (dueCardQueue != null) {
+            dueCardQueue.add(card, cardsByDeck.get(card.getDeck()));
+        }
+    }
+
+    /**
+     * Returns the card in {@code cardsInDeck} with the given {@code id}, or null if it is not in that deck.
+     */
+    private Card getCardInDeck(List<Card> cardsInDeck, long id) {
+        int position = positionsInDeckById.getOrDefault(id, -1);
+        if (position < 0 || position >= cardsInDeck.size()) {
+            return null;
+        }
+        Card card = cardsInDeck.get(position);
+        return card.getId() == id ? card : null; // the position may be in the list of another deck
+    }
+
+    /**
+     * Removes {@code card}, as stored in the card list, from the list of its deck.
+     */
+    private void removeFromPartition(Card card) {
+        List<Card> cardsInDeck = cardsByDeck.get(card.getDeck());
+        int position = positionsInDeckById.getOrDefault(card.getId(), -1);
+        cardsInDeck.remove(position);
+        positionsInDeckById.remove(card.getId());
+        for (int i = position; i < cardsInDeck.size(); i++) {
+            positionsInDeckById.put(cardsInDeck.get(i).getId(), i);
+        }
+        tagCountsByDeck.get(card.getDeck())[card.getTag().tagName.ordinal()]--;
+        if (cardsInDeck.isEmpty()) {
+            cardsByDeck.remove(card.getDeck());
+            tagCountsByDeck.remove(card.getDeck());
+            dueCardQueuesByDeck.remove(card.getDeck());
+        }
+    }
+
+    /**
+     * Drops the list and the due card queue of the cards of {@code deck}, leaving its tag counts.
+     *
+     * @return the cards the deck had, which may be none.
+     */
+    private List<Card> removePartition(Deck deck) {
+        List<Card> cardsInDeck = cardsByDeck.remove(deck);
+        dueCardQueuesByDeck.remove(deck);
+        if (cardsInDeck == null) {
+            return Collections.emptyList();
+        }
+        cardsInDeck.forEach(card -> positionsInDeckById.remove(card.getId()));
+        return cardsInDeck;
+    }
+
+    //// lazy loading
+
+    /**
+     * Leaves the cards of each deck in {@code tagCountsByDeck} out of the card list until {@link #loadDeck(Deck)}
+     * reads them with {@code deckLoader}. Until then the size of each deck comes from its tag counts, indexed by
+     * {@code TagName} ordinal. The decks must be in the deck list and must not have any cards in the card list.
+     */
+    public void setUnloadedDecks(Map<Deck, int[]> tagCountsByDeck, DeckLoader deckLoader) {
+        requireAllNonNull(tagCountsByDeck, deckLoader);
+        for (Map.Entry<Deck, int[]> unloaded : tagCountsByDeck.entrySet()) {
+            Deck deck = unloaded.getKey();
+            assert decks.contains(deck) && !cardsByDeck.containsKey(deck) : "Only empty decks can be unloaded";
+            unloadedDecks.add(deck);
+            this.tagCountsByDeck.put(deck, unloaded.getValue().clone());
+        }
+        this.deckLoader = deckLoader;
+    }
+
+    @Override
+    public boolean isDeckLoaded(Deck deck) {
+        requireNonNull(deck);
+        return !unloadedDecks.contains(deck);
+    }
+
+    /**
+     * Reads the cards of {@code deck} into the card list if they are not loaded yet.
+     * Loading does not count as a modification, see {@link #getVersion()}.
+     *
+     * @throws DeckLoadException if the cards cannot be read, in which case the deck stays unloaded.
+     */
+    public void loadDeck(Deck deck) {
+        requireNonNull(deck);
+        if (!unloadedDecks.contains(deck)) {
+            return;
+        }
+
+        List<Card> loadedCards = canonicalize(deckLoader.loadCards(deck));
+        for (Card card : loadedCards) {
+            if (!card.isInDeck(deck)) {
+                throw new DeckLoadException(deck, "it holds a card of deck " + card.getDeck());
+            }
+        }
+        List<Card> storedCards;
+        try {
+            storedCards = cards.addAll(loadedCards);
+        } catch (DuplicateCardException dce) {
+            throw new DeckLoadException(deck, dce);
+        }
+        unloadedDecks.remove(deck);
+        tagCountsByDeck.remove(deck);
+        storedCards.forEach(this::addToPartition);
+        for (int i = 0; i < storedCards.size(); i++) {
+            if (storedCards.get(i).getId() != loadedCards.get(i).getId()) {
+                markChanged(deck); // so that the ids given to its cards are saved and stay the same
+                break;
+            }
+        }
+    }
+
+    /**
+     * Drops the cards of {@code deck} from the card list, keeping its size, so that the next
+     * {@link #loadDeck(Deck)} reads them again. Only decks that a {@code DeckLoader} can read and that have not
+     * been modified since this master deck was read are unloaded, so no change is lost.
+     *
+     * @return true if the deck was unloaded.
+     */
+    public boolean unloadDeck(Deck deck) {
+        requireNonNull(deck);
+        if (deckLoader == null || !decks.contains(deck) || unloadedDecks.contains(deck)
+                || revisionsByDeck.containsKey(deck)) {
+            return false;
+        }
+
+        cards.removeAll(removePartition(deck));
+        tagCountsByDeck.putIfAbsent(deck, new int[TagName.values().length]);
+        unloadedDecks.add(deck);
+        return true;
     }
 
     //// util methods
@@ -143,44 +498,109 @@ public class MasterDeck implements ReadOnlyMasterDeck {
      */
     public void addDeck(Deck d) {
         decks.add(d);
+        deckRegistry.intern(d);
+        markChanged(d);
+        version++;
     }
 
     /**
      * Replaces the given deck {@code target} in the list with {@code editedDeck}.
      * {@code target} must exist.
      * The deck identity of {@code editedCard} must not be the same as another existing deck.
+     * Renaming a deck loads its cards first, see {@link #loadDeck(Deck)}.
      */
     public void setDeck(Deck target, Deck editedDeck) {
         requireNonNull(editedDeck);
+        boolean isRenamed = !target.equals(editedDeck); // selecting a deck only changes how it is displayed
+        if (isRenamed) {
+            loadDeck(target);
+        }
         decks.setDeck(target, editedDeck);
+        if (isRenamed) {
+            deckRegistry.intern(editedDeck);
+            markChanged(editedDeck);
+            version++;
+        }
     }
 
     /**
      * Changes the association of all the cards from the old deck to the new deck.
+     * The cards are moved in one pass over all the cards, and the card list reports the move as a single change
+     * rather than one change per card.
      *
      * @param oldDeck The deck which cards are currently associated with.
      * @param newDeck The deck which cards are to be associated with.
      */
     public void moveCards(Deck oldDeck, Deck newDeck) {
-        for (Card c : cards) {
-            if (c.isInDeck(oldDeck)) {
-                Card editedCard = new Card(c.getQuestion(), c.getAnswer(), c.getTag(), newDeck);
-                setCard(c, editedCard);
-            }
+        requireAllNonNull(oldDeck, newDeck);
+        if (oldDeck.equals(newDeck)) {
+            return;
+        }
+        loadDeck(oldDeck);
+        Deck canonicalNewDeck = deckRegistry.intern(newDeck);
+        List<Card> movedCards = cards.moveCards(oldDeck, canonicalNewDeck);
+
+        if (!movedCards.isEmpty()) {
+            removePartition(oldDeck);
+            tagCountsByDeck.remove(oldDeck);
+            movedCards.forEach(this::addToPartition);
+            markChanged(oldDeck);
+            markChanged(canonicalNewDeck);
+            version++;
+        }
+        if (!decks.contains(oldDeck)) {
+            deckRegistry.remove(oldDeck);
         }
     }
 
     /**
      * Removes {@code key} from this {@code MasterDeck} and its corresponding cards.
      * {@code key} must exist.
+     * The cards are taken from the list of the deck rather than searched for, and the card list reports their
+     * removal as a single change, see {@link UniqueCardList#removeAll(List)}.
      */
     public void removeDeck(Deck key) {
-        List<Card> cardsToRemove = cards.asUnmodifiableObservableList().parallelStream()
-                .filter(card -> card.isInDeck(key))
-                .collect(Collectors.toList());
-        cardsToRemove.forEach(this::removeCard);
+        unloadedDecks.remove(key);
+        tagCountsByDeck.remove(key);
+        List<Card> cardsInDeck = removePartition(key);
+        if (!cardsInDeck.isEmpty()) {
+            cards.removeAll(cardsInDeck);
+            markChanged(key);
+        }
 
         decks.remove(key);
+        deckRegistry.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the revision of the cards of {@code deck}. It changes whenever they are modified, and is shared only
+     * with copies of this master deck, see {@link #resetData(ReadOnlyMasterDeck)}. Setting the cards gives every
+     * deck a new revision, and loading the cards of a deck keeps its revision.
+     */
+    @Override
+    public long getDeckRevision(Deck deck) {
+        requireNonNull(deck);
+        return revisionsByDeck.getOrDefault(deck, setRevision);
+    }
+
+    private void markChanged(Deck deck) {
+        revisionsByDeck.put(deck, nextRevision());
+    }
+
+    /**
+     * Returns a revision that no deck of any master deck has had yet.
+     */
+    private static long nextRevision() {
+        return lastRevision.incrementAndGet();
+    }
+
+    /**
+     * Returns a counter that changes whenever the cards or decks of this master deck are modified.
+     * Two calls returning the same value mean nothing has changed in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     @Override
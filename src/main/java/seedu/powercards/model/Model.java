@@ -11,6 +11,7 @@ import seedu.powercards.commons.core.GuiSettings;
 import seedu.powercards.commons.core.index.Index;
 import seedu.powercards.model.card.Card;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
 import seedu.powercards.model.review.Review;
 import seedu.powercards.model.tag.Tag;
 import seedu.powercards.model.tag.Tag.TagName;
@@ -63,11 +64,21 @@ public interface Model {
     /** Returns the Deck */
     ReadOnlyMasterDeck getMasterDeck();
 
+    /**
+     * Returns the version of the master deck, which changes whenever its cards or decks are modified.
+     */
+    long getMasterDeckVersion();
+
     /**
      * Returns true if a card with the same identity as {@code card} exists in the master deck.
      */
     boolean hasCard(Card card);
 
+    /**
+     * Returns the card with the given {@code id}, if it is in the master deck and its deck is loaded.
+     */
+    Optional<Card> getCardById(long id);
+
     /**
      * Deletes the given card.
      * The card must exist in the master deck.
@@ -118,6 +129,8 @@ public interface Model {
      * Replaces the given deck {@code target} with {@code editedDeck}.
      * {@code target} must exist.
      * The deck name of {@code editedDeck} must not be the same as another existing deck.
+     *
+     * @throws DeckLoadException if {@code target} is renamed and its cards cannot be loaded.
      */
     void setDeck(Deck target, Deck editedDeck);
 
@@ -131,8 +144,19 @@ public interface Model {
 
     void deleteDeck(Deck key);
 
+    /**
+     * Selects the deck at {@code idx} of the filtered deck list, loading its cards if they are not in memory yet.
+     *
+     * @throws DeckLoadException if the cards of the deck cannot be loaded.
+     */
     void selectDeck(Index idx);
 
+    /**
+     * Keeps the cards of at most {@code loadedDeckLimit} recently opened decks in memory, unloading the others
+     * when another deck is opened, if they can be loaded again. A limit of 0 or less keeps every opened deck.
+     */
+    void setLoadedDeckLimit(int loadedDeckLimit);
+
     void unselectDeck();
 
     String getSelectedDeckName();
@@ -143,8 +167,30 @@ public interface Model {
 
     int getDeckSizeFilteredTag(int deckIndex, List<TagName> difficulties);
 
+    /**
+     * Starts a review of the deck at {@code idx} of the filtered deck list, loading its cards if needed.
+     *
+     * @throws DeckLoadException if the cards of the deck cannot be loaded.
+     */
     void reviewDeck(Index idx, List<TagName> difficulties);
 
+    /**
+     * Starts a review of the deck at {@code idx} like {@link #reviewDeck(Index, List)}, drawing its cards in an
+     * order given by {@code seed}, so that reviews started with the same seed on the same cards are the same.
+     *
+     * @throws DeckLoadException if the cards of the deck cannot be loaded.
+     */
+    void reviewDeck(Index idx, List<TagName> difficulties, long seed);
+
+    /**
+     * Starts a review of the cards due today in the deck at {@code idx} of the filtered deck list, earliest due
+     * first, loading its cards if needed. At most the number of cards per review are drawn.
+     *
+     * @return false if no card in the deck is due, in which case no review is started.
+     * @throws DeckLoadException if the cards of the deck cannot be loaded.
+     */
+    boolean reviewDueCards(Index idx);
+
     Optional<Review> getReview();
 
     void endReview();
@@ -161,6 +207,9 @@ public interface Model {
 
     void setNumCardsPerReview(int i);
 
+    /**
+     * Tags the current card in the review with {@code tag}, and schedules its next review from it.
+     */
     void tagCurrentCardInReview(Tag tag);
 
     ObservableList<Pair<String, String>> getReviewStatsList();
@@ -4,8 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -18,6 +23,7 @@ import seedu.powercards.commons.core.index.Index;
 import seedu.powercards.model.card.Card;
 import seedu.powercards.model.card.CardHasTagPredicate;
 import seedu.powercards.model.card.CardInDeckPredicate;
+import seedu.powercards.model.card.Schedule;
 import seedu.powercards.model.deck.Deck;
 import seedu.powercards.model.review.Review;
 import seedu.powercards.model.tag.Tag;
@@ -36,6 +42,8 @@ public class ModelManager implements Model {
     private Deck selectedDeck;
     private Review currReview;
     private int numCardsPerReview = -1;
+    private final Set<Deck> recentlyOpenedDecks = new LinkedHashSet<>();
+    private int loadedDeckLimit;
 
     /**
      * Initializes a ModelManager with the given masterDeck and userPrefs.
@@ -96,6 +104,7 @@ public class ModelManager implements Model {
     @Override
     public void setMasterDeck(ReadOnlyMasterDeck deck) {
         this.masterDeck.resetData(deck);
+        recentlyOpenedDecks.clear();
     }
 
     @Override
@@ -103,6 +112,11 @@ public class ModelManager implements Model {
         return masterDeck;
     }
 
+    @Override
+    public long getMasterDeckVersion() {
+        return masterDeck.getVersion();
+    }
+
     /* ==================================== PowerCards Operations ==================================== */
 
     @Override
@@ -111,6 +125,11 @@ public class ModelManager implements Model {
         return masterDeck.hasCard(card);
     }
 
+    @Override
+    public Optional<Card> getCardById(long id) {
+        return masterDeck.getCardById(id);
+    }
+
     @Override
     public void deleteCard(Card target) {
         masterDeck.removeCard(target);
@@ -186,10 +205,43 @@ public class ModelManager implements Model {
         masterDeck.removeDeck(deckToDelete);
     }
 
+    @Override
+    public void setLoadedDeckLimit(int loadedDeckLimit) {
+        this.loadedDeckLimit = loadedDeckLimit;
+    }
+
+    /**
+     * Loads the cards of {@code deck} if they are not in memory yet, then unloads the least recently opened
+     * decks beyond the loaded deck limit, if there is one. The selected deck is never unloaded.
+     */
+    private void openDeck(Deck deck) {
+        masterDeck.loadDeck(deck);
+        recentlyOpenedDecks.remove(deck);
+        recentlyOpenedDecks.add(deck);
+        if (loadedDeckLimit <= 0) {
+            return;
+        }
+
+        int excessCount = recentlyOpenedDecks.size() - loadedDeckLimit;
+        Iterator<Deck> oldestFirst = recentlyOpenedDecks.iterator();
+        while (excessCount > 0 && oldestFirst.hasNext()) {
+            Deck candidate = oldestFirst.next();
+            if (candidate.equals(deck) || candidate.equals(selectedDeck)) {
+                continue;
+            }
+            oldestFirst.remove();
+            excessCount--;
+            if (masterDeck.unloadDeck(candidate)) {
+                logger.fine("Unloaded the cards of deck " + candidate);
+            }
+        }
+    }
+
     @Override
     public void selectDeck(Index deckIndex) {
         int zeroBasesIdx = deckIndex.getZeroBased();
         Deck toSelect = filteredDecks.get(zeroBasesIdx);
+        openDeck(toSelect);
 
         // Always unselect the previous deck before selecting a new deck
         if (selectedDeck != null) {
@@ -226,17 +278,13 @@ public class ModelManager implements Model {
     @Override
     public int getDeckSize(int deckIndex) {
         Deck deck = filteredDecks.get(deckIndex);
-        return new FilteredList<>(
-                masterDeck.getCardList(), new CardInDeckPredicate(deck)
-        ).size();
+        return masterDeck.getDeckSize(deck);
     }
 
     @Override
     public int getDeckSizeFilteredTag(int deckIndex, List<TagName> difficulties) {
         Deck deck = filteredDecks.get(deckIndex);
-        return new FilteredList<>(masterDeck.getCardList(),
-                new CardInDeckPredicate(deck)
-                        .and(new CardHasTagPredicate(difficulties))).size();
+        return masterDeck.getDeckSize(deck, difficulties);
     }
 
     /* ==================================== Review Operations ==================================== */
@@ -247,15 +295,36 @@ public class ModelManager implements Model {
      */
     @Override
     public void reviewDeck(Index deckIndex, List<TagName> difficulties) {
+        startReview(deckIndex, difficulties, new Random());
+    }
+
+    @Override
+    public void reviewDeck(Index deckIndex, List<TagName> difficulties, long seed) {
+        startReview(deckIndex, difficulties, new Random(seed));
+    }
+
+    private void startReview(Index deckIndex, List<TagName> difficulties, Random random) {
         int zeroBasesIdx = deckIndex.getZeroBased();
         Deck deckToReview = filteredDecks.get(zeroBasesIdx);
+        openDeck(deckToReview);
+
+        currReview = new Review(deckToReview, masterDeck.getCardsInDeck(deckToReview),
+                new CardHasTagPredicate(difficulties), masterDeck.getDeckSize(deckToReview, difficulties),
+                numCardsPerReview, random);
+    }
 
-        List<Card> cardsToReview =
-                new FilteredList<>(masterDeck.getCardList(),
-                        new CardInDeckPredicate(deckToReview)
-                                .and(new CardHasTagPredicate(difficulties)));
+    @Override
+    public boolean reviewDueCards(Index deckIndex) {
+        Deck deckToReview = filteredDecks.get(deckIndex.getZeroBased());
+        openDeck(deckToReview);
 
-        currReview = new Review(deckToReview, cardsToReview, numCardsPerReview);
+        int count = numCardsPerReview < 0 ? Integer.MAX_VALUE : numCardsPerReview;
+        List<Card> dueCards = masterDeck.getDueCards(deckToReview, count, LocalDate.now());
+        if (dueCards.isEmpty()) {
+            return false;
+        }
+        currReview = Review.inOrder(deckToReview, dueCards);
+        return true;
     }
 
     /**
@@ -320,8 +389,10 @@ public class ModelManager implements Model {
 
     @Override
     public void tagCurrentCardInReview(Tag tag) {
-        masterDeck.tagCard(currReview.getCurrCard(), tag); // modifies masterDeck
-        currReview.tagCurrentCard(tag); // reflects in GUI
+        Schedule scheduleAtReviewStart = currReview.getCurrCardAsDrawn().getSchedule();
+        Card taggedCard = masterDeck.reviewCard(currReview.getCurrCard(), scheduleAtReviewStart, tag,
+                LocalDate.now()); // modifies masterDeck
+        currReview.tagCurrentCard(taggedCard); // reflects in GUI
     }
 
     @Override
@@ -1,5 +1,8 @@
 package seedu.powercards.model;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import seedu.powercards.model.card.Card;
 import seedu.powercards.model.deck.Deck;
@@ -9,6 +12,9 @@ import seedu.powercards.model.deck.Deck;
  */
 public interface ReadOnlyMasterDeck {
 
+    /** The revision of decks whose changes are not tracked, see {@link #getDeckRevision(Deck)}. */
+    long UNTRACKED_REVISION = -1;
+
     /**
      * Returns an unmodifiable view of the cards list.
      * This list will not contain any duplicate cards.
@@ -16,4 +22,28 @@ public interface ReadOnlyMasterDeck {
     ObservableList<Card> getCardList();
 
     ObservableList<Deck> getDeckList();
+
+    /**
+     * Returns the cards of {@code deck} in {@link #getCardList()}, in the same order.
+     */
+    default List<Card> getCardsInDeck(Deck deck) {
+        return getCardList().stream().filter(card -> card.isInDeck(deck)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a number that changes whenever the cards of {@code deck} change, so that two equal revisions of a
+     * deck mean that its cards are the same. Returns {@link #UNTRACKED_REVISION} if changes are not tracked, in
+     * which case the cards may differ from any seen before.
+     */
+    default long getDeckRevision(Deck deck) {
+        return UNTRACKED_REVISION;
+    }
+
+    /**
+     * Returns true if the cards of {@code deck} are in {@link #getCardList()}.
+     * A master deck read lazily from storage leaves out the cards of decks that have not been opened yet.
+     */
+    default boolean isDeckLoaded(Deck deck) {
+        return true;
+    }
 }
@@ -3,11 +3,13 @@ package seedu.powercards.model.card;
 import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Card's answer in the deck.
  * Guarantees: immutable; is valid as declared in {@link #isValidAnswer(String)}
  */
-public class Answer {
+public class Answer extends CardText {
 
     public static final String MESSAGE_CONSTRAINTS = "Answers can take any values, and it should not be blank";
 
@@ -16,8 +18,7 @@ public class Answer {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
-
-    public final String answer;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Constructs an {@code Answer}.
@@ -25,33 +26,34 @@ public class Answer {
      * @param answer A valid answer.
      */
     public Answer(String answer) {
+        this(answer, TextArena.shared());
+    }
+
+    /**
+     * Constructs an {@code Answer} whose text is kept in {@code arena} if there is room for it.
+     */
+    Answer(String answer, TextArena arena) {
+        super(validated(answer), arena);
+    }
+
+    private static String validated(String answer) {
         requireNonNull(answer);
         checkArgument(isValidAnswer(answer), MESSAGE_CONSTRAINTS);
-        this.answer = answer;
+        return answer;
     }
 
     /**
      * Returns true if a given string is a valid answer.
      */
     public static boolean isValidAnswer(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-    @Override
-    public String toString() {
-        return answer;
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Answer // instanceof handles nulls
-                && answer.equals(((Answer) other).answer)); // state check
-    }
-
-    @Override
-    public int hashCode() {
-        return answer.hashCode();
+                && hasSameText((Answer) other)); // state check
     }
 
 }
@@ -1,10 +1,10 @@
 package seedu.powercards.model.card;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.powercards.model.tag.Tag.TagName.UNTAGGED;
 
 import java.util.Objects;
-import java.util.Optional;
 
 import seedu.powercards.model.deck.Deck;
 import seedu.powercards.model.tag.Tag;
@@ -12,9 +12,19 @@ import seedu.powercards.model.tag.Tag;
 /**
  * Represents a Card in the master deck.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A card in the master deck also has a stable id, assigned when it is first added and kept through edits and
+ * saves, so that it can be found without comparing cards. The id is a handle rather than part of the card's
+ * value, so it is left out of {@link #equals(Object)}.
+ *
+ * A card also has a {@code Schedule} telling when it is next due for review, which new cards start with as
+ * {@link Schedule#NEW} and which changes each time the card is tagged in a review.
  */
 public class Card {
 
+    /** The id of a card that has not been added to a master deck yet. */
+    public static final long NO_ID = 0;
+
     // Identity fields
     private final Question question;
     private final Answer answer;
@@ -24,17 +34,37 @@ public class Card {
     // Data fields
     private final Tag tag;
     private final boolean isFlipped;
+    private final long id;
+    private final Schedule schedule;
 
     /**
      * Every field must be present and not null.
      */
     public Card(Question question, Answer answer, Tag tag, Deck deck) {
-        requireAllNonNull(question, answer, deck);
+        this(question, answer, tag, deck, NO_ID);
+    }
+
+    /**
+     * Constructs a card with the given {@code id}, such as a card read from storage.
+     * Every field must be present and not null.
+     */
+    public Card(Question question, Answer answer, Tag tag, Deck deck, long id) {
+        this(question, answer, tag, deck, id, Schedule.NEW);
+    }
+
+    /**
+     * Constructs a card with the given {@code id} and review {@code schedule}, such as a card read from storage.
+     * Every field must be present and not null.
+     */
+    public Card(Question question, Answer answer, Tag tag, Deck deck, long id, Schedule schedule) {
+        requireAllNonNull(question, answer, deck, schedule);
         this.question = question;
         this.answer = answer;
-        this.tag = Optional.ofNullable(tag).orElse(new Tag(UNTAGGED));
+        this.tag = tag == null ? Tag.of(UNTAGGED) : Tag.of(tag.tagName); // shared, see Tag#of
         this.deck = deck;
         this.isFlipped = true; // flipped by default
+        this.id = id;
+        this.schedule = schedule;
     }
 
     /**
@@ -50,6 +80,8 @@ public class Card {
         this.tag = toUpdate.tag;
         this.deck = toUpdate.deck;
         this.isFlipped = isFlipped;
+        this.id = toUpdate.id;
+        this.schedule = toUpdate.schedule;
     }
 
     /**
@@ -64,7 +96,60 @@ public class Card {
         this.answer = toUpdate.answer;
         this.deck = toUpdate.deck;
         this.isFlipped = toUpdate.isFlipped;
-        this.tag = tag;
+        this.tag = Tag.of(tag.tagName);
+        this.id = toUpdate.id;
+        this.schedule = toUpdate.schedule;
+    }
+
+    /**
+     * Overloaded constructor to instantiate a card in a different deck.
+     *
+     * @param toUpdate Cards to copy.
+     * @param deck New deck.
+     */
+    public Card(Card toUpdate, Deck deck) {
+        requireAllNonNull(toUpdate, deck);
+        this.question = toUpdate.question;
+        this.answer = toUpdate.answer;
+        this.tag = toUpdate.tag;
+        this.isFlipped = toUpdate.isFlipped;
+        this.deck = deck;
+        this.id = toUpdate.id;
+        this.schedule = toUpdate.schedule;
+    }
+
+    /**
+     * Overloaded constructor to instantiate a card with a different id.
+     *
+     * @param toUpdate Cards to copy.
+     * @param id New id.
+     */
+    public Card(Card toUpdate, long id) {
+        requireNonNull(toUpdate);
+        this.question = toUpdate.question;
+        this.answer = toUpdate.answer;
+        this.tag = toUpdate.tag;
+        this.deck = toUpdate.deck;
+        this.isFlipped = toUpdate.isFlipped;
+        this.id = id;
+        this.schedule = toUpdate.schedule;
+    }
+
+    /**
+     * Overloaded constructor to instantiate a card with a different review schedule.
+     *
+     * @param toUpdate Cards to copy.
+     * @param schedule New schedule.
+     */
+    public Card(Card toUpdate, Schedule schedule) {
+        requireAllNonNull(toUpdate, schedule);
+        this.question = toUpdate.question;
+        this.answer = toUpdate.answer;
+        this.tag = toUpdate.tag;
+        this.deck = toUpdate.deck;
+        this.isFlipped = toUpdate.isFlipped;
+        this.id = toUpdate.id;
+        this.schedule = schedule;
     }
 
     public Question getQuestion() {
@@ -91,6 +176,20 @@ public class Card {
         return deck;
     }
 
+    /**
+     * Returns the id of this card, or {@link #NO_ID} if it has not been added to a master deck.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns when this card is next due for review.
+     */
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
     /**
      * Returns true if both cards have the same question, answer and deck.
      * This defines a weaker notion of equality between two cards.
@@ -146,7 +245,28 @@ public class Card {
     }
 
     /**
-     * Returns true if both cards have the same identity and data fields.
+     * Builds a new card of similar attributes but in a different deck.
+     */
+    public Card buildCardWithDeck(Deck deck) {
+        return new Card(this, deck);
+    }
+
+    /**
+     * Builds a new card of similar attributes but with a different id.
+     */
+    public Card buildCardWithId(long id) {
+        return new Card(this, id);
+    }
+
+    /**
+     * Builds a new card of similar attributes but with a different review schedule.
+     */
+    public Card buildCardWithSchedule(Schedule schedule) {
+        return new Card(this, schedule);
+    }
+
+    /**
+     * Returns true if both cards have the same identity and data fields, including their review schedules.
      * This defines a stronger notion of equality between two cards.
      */
     @Override
@@ -164,7 +284,8 @@ public class Card {
                 && otherCard.getAnswer().equals(getAnswer())
                 && otherCard.getTag().equals(getTag())
                 && otherCard.getDeck().equals(getDeck())
-                && otherCard.isFlipped == isFlipped;
+                && otherCard.isFlipped == isFlipped
+                && otherCard.getSchedule().equals(getSchedule());
     }
 
     @Override
@@ -0,0 +1,206 @@
+package seedu.powercards.model.card;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.powercards.model.deck.Deck;
+
+/**
+ * Finds the position of a card in a list by its identity (question and deck), as defined by
+ * {@code Card#isSameCard(Card)}.
+ *
+ * Only positions are stored, in an open-addressing table kept at most half full. The identity of the card at a
+ * position is read back from the list through a {@code Source}, so the index holds no object per card and a list
+ * that does not keep {@code Card} objects need not create any to be indexed.
+ *
+ * The index must be told of every change to the list, see {@link #add(int)}, {@link #remove(int)},
+ * {@link #move(int, int)}, {@link #shiftAfterRemoval(int, int)} and {@link #rebuild(int)}.
+ */
+final class CardIdentityIndex {
+
+    /**
+     * Reads the identity of the card at a position of the indexed list.
+     */
+    interface Source {
+        /**
+         * Returns the identity hash of the card at {@code position}, see {@link #identityHash(Card)}.
+         */
+        int identityHashAt(int position);
+
+        /**
+         * Returns true if the card at {@code position} has the same identity as {@code card}.
+         */
+        boolean isSameCardAt(int position, Card card);
+    }
+
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final Source source;
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    CardIdentityIndex(Source source) {
+        this.source = source;
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns a source that reads identities from the {@code Card}s of {@code cards}.
+     */
+    static Source sourceOf(List<Card> cards) {
+        return new Source() {
+            @Override
+            public int identityHashAt(int position) {
+                return identityHash(cards.get(position));
+            }
+
+            @Override
+            public boolean isSameCardAt(int position, Card card) {
+                return cards.get(position).isSameCard(card);
+            }
+        };
+    }
+
+    /**
+     * Returns the hash of the identity of {@code card}, equal for cards that are the same card.
+     */
+    static int identityHash(Card card) {
+        return identityHash(card.getQuestion().hashCode(), card.getDeck());
+    }
+
+    /**
+     * Returns the identity hash of a card whose question has the hash {@code questionHash}, in {@code deck}.
+     */
+    static int identityHash(int questionHash, Deck deck) {
+        return 31 * questionHash + deck.hashCode();
+    }
+
+    /**
+     * Returns the position of the card with the same identity as {@code card}, or -1 if there is none.
+     */
+    int indexOf(Card card) {
+        for (int slot = homeSlotOf(identityHash(card)); slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (source.isSameCardAt(slots[slot], card)) {
+                return slots[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Indexes the card at {@code position}. No other indexed card may have the same identity.
+     */
+    void add(int position) {
+        if ((size + 1) * 2 > slots.length) {
+            int[] oldSlots = slots;
+            allocate(slots.length * 2);
+            for (int oldPosition : oldSlots) {
+                if (oldPosition != EMPTY) {
+                    insert(oldPosition);
+                    size++;
+                }
+            }
+        }
+        insert(position);
+        size++;
+    }
+
+    /**
+     * Returns the number of indexed positions.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots in the table.
+     */
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Stops indexing the card at {@code position}. Must be called while the list is unchanged since the card was
+     * indexed, as the identities of other cards are read to keep their probe runs intact.
+     */
+    void remove(int position) {
+        int gap = homeSlotOf(source.identityHashAt(position));
+        while (slots[gap] != position) {
+            assert slots[gap] != EMPTY : "position " + position + " is not indexed";
+            gap = (gap + 1) & mask;
+        }
+        // Moves back each later entry of the probe run that may occupy the gap, that is, whose home slot is not
+        // between the gap and where the entry is now.
+        for (int slot = (gap + 1) & mask; slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int home = homeSlotOf(source.identityHashAt(slots[slot]));
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                slots[gap] = slots[slot];
+                gap = slot;
+            }
+        }
+        slots[gap] = EMPTY;
+        size--;
+    }
+
+    /**
+     * Moves the indexed positions after {@code removedPosition} down by one, after the card there, which must not
+     * be indexed any more, has been removed from the list, which now holds {@code cardCount} cards.
+     * Only the slots of the cards that moved are visited, each found by probing from the home slot of its card.
+     */
+    void shiftAfterRemoval(int removedPosition, int cardCount) {
+        for (int position = removedPosition; position < cardCount; position++) {
+            move(position + 1, position);
+        }
+    }
+
+    /**
+     * Indexes the card at {@code oldPosition} at {@code newPosition} instead, after the list has moved it there.
+     * No other card may be indexed at {@code oldPosition}. The slot is found by probing from the home slot of the
+     * card.
+     */
+    void move(int oldPosition, int newPosition) {
+        int slot = homeSlotOf(source.identityHashAt(newPosition));
+        while (slots[slot] != oldPosition) {
+            assert slots[slot] != EMPTY : "position " + oldPosition + " is not indexed";
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = newPosition;
+    }
+
+    /**
+     * Indexes the first {@code cardCount} cards of the list anew, forgetting all positions indexed before.
+     */
+    void rebuild(int cardCount) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < cardCount * 2L) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+        for (int position = 0; position < cardCount; position++) {
+            insert(position);
+        }
+        size = cardCount;
+    }
+
+    private void insert(int position) {
+        int slot = homeSlotOf(source.identityHashAt(position));
+        while (slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position;
+    }
+
+    private int homeSlotOf(int identityHash) {
+        int hash = identityHash * 0x9E3779B9; // spreads hashes that differ only in their high bits
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+    }
+}
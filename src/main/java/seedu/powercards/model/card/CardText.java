@@ -0,0 +1,53 @@
+package seedu.powercards.model.card;
+
+/**
+ * The text of a question or an answer, kept in a {@code TextArena} if there is room for it there, or on the heap
+ * otherwise. Text kept in an arena is decoded each time it is asked for, and is not cached.
+ */
+abstract class CardText {
+
+    private final TextArena arena;
+    private final long handle;
+    private final String onHeapText;
+    private final int hash;
+
+    CardText(String text, TextArena arena) {
+        this.arena = arena;
+        this.handle = arena.store(text);
+        this.onHeapText = handle == TextArena.NO_HANDLE ? text : null;
+        this.hash = text.hashCode();
+    }
+
+    /**
+     * Returns the text.
+     */
+    public String getText() {
+        return onHeapText != null ? onHeapText : arena.read(handle);
+    }
+
+    /**
+     * Returns true if {@code other} has the same text. Texts kept in the same arena are compared there.
+     */
+    boolean hasSameText(CardText other) {
+        if (hash != other.hash) {
+            return false;
+        }
+        if (onHeapText == null && other.onHeapText == null && arena == other.arena) {
+            return arena.isSameText(handle, other.handle);
+        }
+        return getText().equals(other.getText());
+    }
+
+    @Override
+    public String toString() {
+        return getText();
+    }
+
+    /**
+     * Returns the hash code of the text, see {@link String#hashCode()}.
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
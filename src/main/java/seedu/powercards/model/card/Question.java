@@ -3,11 +3,13 @@ package seedu.powercards.model.card;
 import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Card's question in the master deck.
  * Guarantees: immutable; is valid as declared in {@link #isValidQuestion(String)}
  */
-public class Question {
+public class Question extends CardText {
 
     public static final String MESSAGE_CONSTRAINTS = "Question should not be blank";
 
@@ -16,8 +18,7 @@ public class Question {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
-
-    public final String question;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Constructs a {@code Question}.
@@ -25,34 +26,34 @@ public class Question {
      * @param question A valid name.
      */
     public Question(String question) {
+        this(question, TextArena.shared());
+    }
+
+    /**
+     * Constructs a {@code Question} whose text is kept in {@code arena} if there is room for it.
+     */
+    Question(String question, TextArena arena) {
+        super(validated(question), arena);
+    }
+
+    private static String validated(String question) {
         requireNonNull(question);
         checkArgument(isValidQuestion(question), MESSAGE_CONSTRAINTS);
-        this.question = question;
+        return question;
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidQuestion(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-
-    @Override
-    public String toString() {
-        return question;
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Question // instanceof handles nulls
-                && question.equals(((Question) other).question)); // state check
-    }
-
-    @Override
-    public int hashCode() {
-        return question.hashCode();
+                && hasSameText((Question) other)); // state check
     }
 
 }
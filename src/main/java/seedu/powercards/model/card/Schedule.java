@@ -0,0 +1,158 @@
+package seedu.powercards.model.card;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.powercards.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+
+import seedu.powercards.model.tag.Tag.TagName;
+
+/**
+ * Represents when a Card is next due for review, as scheduled by the SM-2 spaced repetition algorithm.
+ * Guarantees: immutable; is valid as declared in {@link #isValidSchedule(int, int, int, long)}
+ *
+ * Each time a card is tagged in a review, its tag is taken as the quality of the recall, see
+ * {@link #next(TagName, LocalDate)}: a card recalled well is due again after an interval that grows by its ease
+ * factor each time, and a card recalled badly is due again the next day. The ease factor is kept in hundredths so
+ * that schedules are computed and stored exactly.
+ */
+public class Schedule {
+
+    public static final String MESSAGE_CONSTRAINTS = "Schedule should have an ease factor of at least "
+            + "130 hundredths, and a non-negative interval, repetition count and due date";
+
+    /** The schedule of a card that has never been tagged in a review, which is due at once. */
+    public static final Schedule NEW = new Schedule(250, 0, 0, 0);
+
+    public static final int MIN_EASE_FACTOR = 130;
+    private static final int MIN_PASSING_QUALITY = 3;
+    private static final int MAX_QUALITY = 5;
+
+    private final int easeFactor; // in hundredths
+    private final int intervalDays;
+    private final int repetitions;
+    private final long dueEpochDay;
+
+    /**
+     * Constructs a {@code Schedule}.
+     *
+     * @param easeFactor Ease factor in hundredths.
+     * @param intervalDays Days between the last review and the due date.
+     * @param repetitions Number of reviews in a row in which the card was recalled.
+     * @param dueEpochDay Due date, as a count of days from the epoch, see {@link LocalDate#toEpochDay()}.
+     */
+    public Schedule(int easeFactor, int intervalDays, int repetitions, long dueEpochDay) {
+        checkArgument(isValidSchedule(easeFactor, intervalDays, repetitions, dueEpochDay), MESSAGE_CONSTRAINTS);
+        this.easeFactor = easeFactor;
+        this.intervalDays = intervalDays;
+        this.repetitions = repetitions;
+        this.dueEpochDay = dueEpochDay;
+    }
+
+    /**
+     * Returns {@link #NEW} if the given values are those of a new card, or a new {@code Schedule} otherwise,
+     * so that the schedules of cards that were never reviewed are not copied.
+     */
+    public static Schedule of(int easeFactor, int intervalDays, int repetitions, long dueEpochDay) {
+        return NEW.hasValues(easeFactor, intervalDays, repetitions, dueEpochDay)
+                ? NEW
+                : new Schedule(easeFactor, intervalDays, repetitions, dueEpochDay);
+    }
+
+    /**
+     * Returns true if the given values make a valid schedule.
+     */
+    public static boolean isValidSchedule(int easeFactor, int intervalDays, int repetitions, long dueEpochDay) {
+        return easeFactor >= MIN_EASE_FACTOR && intervalDays >= 0 && repetitions >= 0 && dueEpochDay >= 0;
+    }
+
+    /**
+     * Returns the schedule of a card tagged {@code tagName} in a review on {@code today}, taking easy, medium and
+     * hard as a recall of quality 5, 3 and 1 out of 5. Untagging a card leaves its schedule as it is.
+     */
+    public Schedule next(TagName tagName, LocalDate today) {
+        requireNonNull(tagName);
+        switch (tagName) {
+        case EASY:
+            return next(5, today);
+        case MEDIUM:
+            return next(3, today);
+        case HARD:
+            return next(1, today);
+        default:
+            return this;
+        }
+    }
+
+    /**
+     * Returns the schedule of a card recalled with {@code quality}, from 0 to 5, in a review on {@code today}.
+     */
+    Schedule next(int quality, LocalDate today) {
+        requireNonNull(today);
+        checkArgument(quality >= 0 && quality <= MAX_QUALITY, "Quality should be from 0 to 5");
+
+        int nextRepetitions;
+        int nextIntervalDays;
+        if (quality < MIN_PASSING_QUALITY) {
+            nextRepetitions = 0;
+            nextIntervalDays = 1;
+        } else {
+            nextRepetitions = repetitions + 1;
+            nextIntervalDays = nextRepetitions == 1 ? 1
+                    : nextRepetitions == 2 ? 6
+                    : (int) Math.min(Integer.MAX_VALUE, ((long) intervalDays * easeFactor + 50) / 100);
+        }
+        int missed = MAX_QUALITY - quality;
+        int nextEaseFactor = Math.max(MIN_EASE_FACTOR, easeFactor + 10 - missed * (8 + missed * 2));
+        return new Schedule(nextEaseFactor, nextIntervalDays, nextRepetitions, today.toEpochDay() + nextIntervalDays);
+    }
+
+    /**
+     * Returns true if the card is due for review on {@code today}.
+     */
+    public boolean isDueOn(LocalDate today) {
+        return dueEpochDay <= today.toEpochDay();
+    }
+
+    public int getEaseFactor() {
+        return easeFactor;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public long getDueEpochDay() {
+        return dueEpochDay;
+    }
+
+    public LocalDate getDueDate() {
+        return LocalDate.ofEpochDay(dueEpochDay);
+    }
+
+    private boolean hasValues(int easeFactor, int intervalDays, int repetitions, long dueEpochDay) {
+        return this.easeFactor == easeFactor && this.intervalDays == intervalDays
+                && this.repetitions == repetitions && this.dueEpochDay == dueEpochDay;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Schedule // instanceof handles nulls
+                && ((Schedule) other).hasValues(easeFactor, intervalDays, repetitions, dueEpochDay)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(dueEpochDay) * 31 + easeFactor;
+    }
+
+    @Override
+    public String toString() {
+        return equals(NEW) ? "new" : "due " + getDueDate() + ", every " + intervalDays + " days";
+    }
+}
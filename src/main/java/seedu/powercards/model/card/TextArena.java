@@ -0,0 +1,119 @@
+package seedu.powercards.model.card;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps the text of questions and answers in direct memory, outside the heap, so that large decks do not lengthen
+ * garbage collection. Text is stored as UTF-8 in chunks of {@value #CHUNK_SIZE} bytes, allocated as they are needed
+ * up to the capacity of the arena, and is referred to by a {@code long} handle holding its position and length.
+ *
+ * Text is never freed: the text of edited or deleted cards stays in the arena until the app exits. Once the arena
+ * is full, {@link #store(String)} returns {@link #NO_HANDLE} and the caller keeps the text on the heap instead.
+ *
+ * Text may be stored from several threads, as when cards are read in parallel, and read from any thread that
+ * has been handed its handle. Storing is synchronized, and each store ends by publishing how far the arena is
+ * filled through a volatile field that every read checks first, so a reader sees the chunk and its bytes as
+ * written even if the handle reached it without synchronization.
+ */
+public final class TextArena {
+
+    /** The handle of text that was not stored. */
+    static final long NO_HANDLE = -1;
+
+    static final int CHUNK_SIZE = 1 << 20;
+
+    /** An arena that stores nothing, so that all text is kept on the heap. */
+    static final TextArena NONE = new TextArena(0);
+
+    private static volatile TextArena shared = NONE;
+
+    private final ByteBuffer[] chunks;
+    private int chunkCount;
+    private int chunkEnd;
+    private volatile long storedEnd;
+
+    /**
+     * Creates an arena of {@code megabytes} megabytes, or one that stores nothing if {@code megabytes} is 0.
+     */
+    TextArena(int megabytes) {
+        if (megabytes < 0 || megabytes > Integer.MAX_VALUE / CHUNK_SIZE) {
+            throw new IllegalArgumentException("Text arena size out of range: " + megabytes + " MB");
+        }
+        chunks = new ByteBuffer[megabytes]; // a chunk is a megabyte
+    }
+
+    /**
+     * Makes new questions and answers keep their text in an arena of {@code megabytes} megabytes, or on the heap
+     * if {@code megabytes} is 0. Text stored before is kept where it is.
+     */
+    public static void initShared(int megabytes) {
+        shared = megabytes == 0 ? NONE : new TextArena(megabytes);
+    }
+
+    /**
+     * Returns the arena in which new questions and answers keep their text.
+     */
+    static TextArena shared() {
+        return shared;
+    }
+
+    /**
+     * Copies {@code text} into the arena and returns its handle, or {@link #NO_HANDLE} if there is no room for it.
+     */
+    synchronized long store(String text) {
+        if (chunks.length == 0) {
+            return NO_HANDLE;
+        }
+        byte[] bytes = text.getBytes(UTF_8);
+        if (bytes.length > CHUNK_SIZE) {
+            return NO_HANDLE;
+        }
+        if (chunkCount == 0 || chunkEnd + bytes.length > CHUNK_SIZE) {
+            if (chunkCount == chunks.length) {
+                return NO_HANDLE;
+            }
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            chunkEnd = 0;
+        }
+
+        ByteBuffer chunk = chunks[chunkCount - 1].duplicate();
+        chunk.position(chunkEnd);
+        chunk.put(bytes);
+        long position = (long) (chunkCount - 1) * CHUNK_SIZE + chunkEnd;
+        chunkEnd += bytes.length;
+        storedEnd = position + bytes.length;
+        return position << 32 | bytes.length;
+    }
+
+    /**
+     * Returns the text stored under {@code handle}.
+     */
+    String read(long handle) {
+        ByteBuffer stored = viewOf(handle);
+        byte[] bytes = new byte[stored.remaining()];
+        stored.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns true if the texts stored under the two handles are the same, without decoding them.
+     */
+    boolean isSameText(long handle, long otherHandle) {
+        return handle == otherHandle || viewOf(handle).equals(viewOf(otherHandle));
+    }
+
+    private ByteBuffer viewOf(long handle) {
+        int position = (int) (handle >>> 32);
+        int length = (int) handle;
+        if (position + (long) length > storedEnd) {
+            throw new IllegalArgumentException("No text is stored under handle " + handle);
+        }
+        ByteBuffer view = chunks[position / CHUNK_SIZE].duplicate();
+        int start = position % CHUNK_SIZE;
+        view.limit(start + length);
+        view.position(start);
+        return view;
+    }
+}
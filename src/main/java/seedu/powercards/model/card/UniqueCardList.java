@@ -3,13 +3,23 @@ package seedu.powercards.model.card;
 import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.powercards.commons.util.LongIntHashMap;
 import seedu.powercards.model.card.exceptions.CardNotFoundException;
 import seedu.powercards.model.card.exceptions.DuplicateCardException;
+import seedu.powercards.model.deck.Deck;
 
 /**
  * A list of cards that enforces uniqueness between its elements and does not allow nulls.
@@ -20,81 +30,280 @@ import seedu.powercards.model.card.exceptions.DuplicateCardException;
  *
  * Supports a minimal set of list operations.
  *
+ * An index from card identity (question and deck) to list position is kept alongside the backing list,
+ * so that identity lookups do not need to scan the list, see {@code CardIdentityIndex}.
+ *
+ * The list also hands out card ids. A card added without an id, or with the id of another card in the list, is
+ * stored with an unused id, and an edited card keeps the id of the card it replaces. Cards are indexed by id in a
+ * {@code LongIntHashMap}, so finding a card by id neither boxes the id nor compares cards.
+ *
  * @see Card#isSameCard(Card)
  */
 public class UniqueCardList implements Iterable<Card> {
 
-    private final ObservableList<Card> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Card> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<Card> internalList;
+    private final ObservableList<Card> internalUnmodifiableList;
+    private final CardIdentityIndex positions;
+    private final LongIntHashMap positionsById = new LongIntHashMap();
+    private long nextId = Card.NO_ID + 1;
+
+    /**
+     * Creates an empty list that holds its cards as {@code Card} objects.
+     */
+    public UniqueCardList() {
+        internalList = FXCollections.observableArrayList();
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        positions = new CardIdentityIndex(CardIdentityIndex.sourceOf(internalList));
+    }
+
+    /**
+     * Creates a list that holds its cards in {@code internalList}, which must be empty, and reads their identities
+     * through {@code identities} when indexing them.
+     */
+    UniqueCardList(ObservableList<Card> internalList, CardIdentityIndex.Source identities) {
+        assert internalList.isEmpty();
+        this.internalList = internalList;
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        positions = new CardIdentityIndex(identities);
+    }
 
     /**
      * Returns true if the list contains an equivalent card as the given argument.
      */
     public boolean contains(Card toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCard);
+        return positions.indexOf(toCheck) != -1;
+    }
+
+    /**
+     * Returns the card with the given {@code id}, if it is in the list.
+     */
+    public Optional<Card> getById(long id) {
+        int index = positionsById.getOrDefault(id, -1);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the id that the next card added without an id is given.
+     */
+    public long getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Makes sure that ids up to {@code maxId} are not handed out to new cards, such as the ids of cards that are
+     * stored but not in the list yet.
+     */
+    public void reserveIds(long maxId) {
+        nextId = Math.max(nextId, maxId + 1);
     }
 
     /**
      * Adds a card to the list.
      * The card must not already exist in the list.
+     *
+     * @return the card as stored, which has an id.
      */
-    public void add(Card toAdd) {
+    public Card add(Card toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateCardException();
         }
-        internalList.add(toAdd);
+        Card added = withUnusedId(toAdd);
+        positionsById.put(added.getId(), internalList.size());
+        internalList.add(added);
+        positions.add(internalList.size() - 1);
+        return added;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change.
+     * None of the cards may already exist in the list, and {@code toAdd} must not contain duplicate cards.
+     *
+     * @return the cards as stored, which have ids.
+     */
+    public List<Card> addAll(List<Card> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<CardKey> addedKeys = new HashSet<>(toAdd.size() * 4 / 3 + 1);
+        for (Card card : toAdd) {
+            if (contains(card) || !addedKeys.add(new CardKey(card))) {
+                throw new DuplicateCardException();
+            }
+        }
+
+        int start = internalList.size();
+        List<Card> added = new ArrayList<>(toAdd.size());
+        for (Card card : toAdd) {
+            Card addedCard = withUnusedId(card);
+            positionsById.put(addedCard.getId(), start + added.size());
+            added.add(addedCard);
+        }
+        internalList.addAll(added);
+        for (int i = start; i < internalList.size(); i++) {
+            positions.add(i);
+        }
+        return added;
     }
 
     /**
      * Replaces the card {@code target} in the list with {@code editedCard}.
      * {@code target} must exist in the list.
      * The card identity of {@code editedCard} must not be the same as another existing card in the list.
+     *
+     * @return the edited card as stored, which has the id of {@code target}.
      */
-    public void setCard(Card target, Card editedCard) {
+    public Card setCard(Card target, Card editedCard) {
         requireAllNonNull(target, editedCard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new CardNotFoundException();
         }
 
-        if (!target.isSameCard(editedCard) && contains(editedCard)) {
+        boolean isIdentityChanged = !target.isSameCard(editedCard);
+        if (isIdentityChanged && contains(editedCard)) {
             throw new DuplicateCardException();
         }
 
-        internalList.set(index, editedCard);
+        long id = internalList.get(index).getId();
+        Card storedCard = editedCard.getId() == id ? editedCard : editedCard.buildCardWithId(id);
+        if (isIdentityChanged) {
+            positions.remove(index);
+        }
+        internalList.set(index, storedCard);
+        if (isIdentityChanged) {
+            positions.add(index);
+        }
+        return storedCard;
+    }
+
+    /**
+     * Moves every card of {@code oldDeck} to {@code newDeck} as a single change, keeping the positions and ids of
+     * the cards. No card of {@code newDeck} may have the same question as a card of {@code oldDeck}.
+     *
+     * @return the moved cards as stored, in list order.
+     */
+    public List<Card> moveCards(Deck oldDeck, Deck newDeck) {
+        requireAllNonNull(oldDeck, newDeck);
+        Card[] replacement = internalList.toArray(new Card[0]);
+        List<Integer> movedPositions = new ArrayList<>();
+        for (int i = 0; i < replacement.length; i++) {
+            if (replacement[i].isInDeck(oldDeck)) {
+                replacement[i] = replacement[i].buildCardWithDeck(newDeck);
+                if (!oldDeck.equals(newDeck) && contains(replacement[i])) {
+                    throw new DuplicateCardException();
+                }
+                movedPositions.add(i);
+            }
+        }
+
+        List<Card> movedCards = new ArrayList<>(movedPositions.size());
+        for (int i : movedPositions) {
+            movedCards.add(replacement[i]);
+        }
+        if (!movedCards.isEmpty()) {
+            internalList.setAll(replacement);
+            positions.rebuild(replacement.length);
+        }
+        return movedCards;
     }
 
     /**
      * Removes the equivalent card from the list.
      * The card must exist in the list.
+     *
+     * @return the card as it was stored, which has an id.
      */
-    public void remove(Card toRemove) {
+    public Card remove(Card toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new CardNotFoundException();
         }
+
+        positions.remove(index);
+        Card removed = internalList.remove(index);
+        positions.shiftAfterRemoval(index, internalList.size());
+        positionsById.remove(removed.getId());
+        reindexFrom(index);
+        return removed;
+    }
+
+    /**
+     * Removes the equivalent cards of {@code toRemove} from the list as a single change.
+     * The cards must all exist in the list, and {@code toRemove} must not contain duplicate cards.
+     *
+     * The cards are found by id and the list is compacted from the first of them, so apart from copying the backing
+     * list in bulk, this takes time in proportion to the number of cards removed and of the cards after the first of
+     * them, rather than to the size of the list. Removing the cards of the deck added last touches only its cards.
+     */
+    public void removeAll(List<Card> toRemove) {
+        requireAllNonNull(toRemove);
+        int[] removedIndexes = new int[toRemove.size()];
+        for (int i = 0; i < removedIndexes.length; i++) {
+            removedIndexes[i] = indexOf(toRemove.get(i));
+            if (removedIndexes[i] == -1) {
+                throw new CardNotFoundException();
+            }
+        }
+        if (removedIndexes.length == 0) {
+            return;
+        }
+        Arrays.sort(removedIndexes);
+
+        int firstRemovedIndex = removedIndexes[0];
+        List<Card> remainingCards = new ArrayList<>(internalList.size() - removedIndexes.length);
+        remainingCards.addAll(internalList.subList(0, firstRemovedIndex));
+        for (int index = firstRemovedIndex, r = 0; index < internalList.size(); index++) {
+            if (r < removedIndexes.length && removedIndexes[r] == index) {
+                r++;
+            } else {
+                remainingCards.add(internalList.get(index));
+            }
+        }
+        for (int index : removedIndexes) {
+            positions.remove(index);
+            positionsById.remove(internalList.get(index).getId());
+        }
+        internalList.setAll(remainingCards);
+
+        // The card now at newIndex was at newIndex + r, where r is the number of cards removed before it.
+        for (int newIndex = firstRemovedIndex, r = 0; newIndex < remainingCards.size(); newIndex++) {
+            while (r < removedIndexes.length && removedIndexes[r] <= newIndex + r) {
+                r++;
+            }
+            positions.move(newIndex + r, newIndex);
+        }
+        reindexFrom(firstRemovedIndex);
     }
 
     public void setCards(UniqueCardList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setCards(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code cards}.
-     * {@code cards} must not contain duplicate cards.
+     * {@code cards} must not contain duplicate cards. Cards keep their ids, except those without an id and all but
+     * the first of any cards sharing an id, which are given unused ids.
      */
     public void setCards(List<Card> cards) {
         requireAllNonNull(cards);
-        if (!cardsAreUnique(cards)) {
-            throw new DuplicateCardException();
+        requireUniqueCards(cards);
+
+        positionsById.clear();
+        for (Card card : cards) {
+            reserveIds(card.getId());
+        }
+        List<Card> storedCards = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            Card storedCard = withUnusedId(card);
+            positionsById.put(storedCard.getId(), storedCards.size());
+            storedCards.add(storedCard);
         }
 
-        internalList.setAll(cards);
+        internalList.setAll(storedCards);
+        positions.rebuild(storedCards.size());
     }
 
     /**
@@ -106,7 +315,7 @@ public class UniqueCardList implements Iterable<Card> {
 
     @Override
     public Iterator<Card> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -122,16 +331,86 @@ public class UniqueCardList implements Iterable<Card> {
     }
 
     /**
-     * Returns true if {@code cards} contains only unique cards.
+     * Returns the position of the card equal to {@code card}, or -1 if there is no such card.
+     * A card with an id is looked up by id first.
      */
-    private boolean cardsAreUnique(List<Card> cards) {
-        for (int i = 0; i < cards.size() - 1; i++) {
-            for (int j = i + 1; j < cards.size(); j++) {
-                if (cards.get(i).isSameCard(cards.get(j))) {
-                    return false;
-                }
+    private int indexOf(Card card) {
+        int index = positionsById.getOrDefault(card.getId(), -1);
+        if (index != -1 && internalList.get(index).equals(card)) {
+            return index;
+        }
+
+        int identityIndex = positions.indexOf(card);
+        if (identityIndex == -1 || !internalList.get(identityIndex).equals(card)) {
+            return -1;
+        }
+        return identityIndex;
+    }
+
+    /**
+     * Returns {@code card} if its id is not used by any card in the list, or else a copy with the next unused id.
+     */
+    private Card withUnusedId(Card card) {
+        long id = card.getId();
+        if (id > Card.NO_ID && !positionsById.containsKey(id)) {
+            reserveIds(id);
+            return card;
+        }
+        while (positionsById.containsKey(nextId)) {
+            nextId++;
+        }
+        return card.buildCardWithId(nextId++);
+    }
+
+    /**
+     * Refreshes the positions by id of all cards from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Checks that {@code cards} contains no duplicate cards.
+     *
+     * @throws DuplicateCardException naming the first clashing pair if {@code cards} contains duplicate cards.
+     */
+    private static void requireUniqueCards(List<Card> cards) {
+        Map<CardKey, Integer> index = new HashMap<>(cards.size() * 4 / 3 + 1);
+        for (int i = 0; i < cards.size(); i++) {
+            Card card = cards.get(i);
+            Integer clash = index.putIfAbsent(new CardKey(card), i);
+            if (clash != null) {
+                throw new DuplicateCardException(cards.get(clash), card);
             }
         }
-        return true;
+    }
+
+    /**
+     * The identity of a card as defined by {@code Card#isSameCard(Card)}, usable as a hash key while checking a
+     * batch of cards for duplicates.
+     */
+    private static final class CardKey {
+        private final Question question;
+        private final Deck deck;
+
+        CardKey(Card card) {
+            this.question = card.getQuestion();
+            this.deck = card.getDeck();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CardKey
+                    && question.equals(((CardKey) other).question)
+                    && deck.equals(((CardKey) other).deck));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(question, deck);
+        }
     }
 }
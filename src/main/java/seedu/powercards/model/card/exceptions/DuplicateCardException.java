@@ -1,5 +1,7 @@
 package seedu.powercards.model.card.exceptions;
 
+import seedu.powercards.model.card.Card;
+
 /**
  * Signals that the operation will result in duplicate cards (Cards are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,11 @@ public class DuplicateCardException extends RuntimeException {
     public DuplicateCardException() {
         super("Operation would result in duplicate cards");
     }
+
+    /**
+     * Constructs a {@code DuplicateCardException} that names the first pair of clashing cards found.
+     */
+    public DuplicateCardException(Card first, Card second) {
+        super(String.format("Operation would result in duplicate cards: [%s] and [%s]", first, second));
+    }
 }
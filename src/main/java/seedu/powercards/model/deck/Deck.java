@@ -3,6 +3,7 @@ package seedu.powercards.model.deck;
 import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,6 +15,7 @@ import javafx.util.Pair;
 public final class Deck {
     public static final String MESSAGE_CONSTRAINTS = "Deck name cannot be blank.";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private final String deckName;
     private final boolean isSelected;
 
@@ -69,7 +71,7 @@ public final class Deck {
      * Returns true if a given string is a valid deck name.
      */
     public static boolean isValidDeckName(String deckName) {
-        return deckName.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(deckName).matches();
     }
 
     /**
@@ -0,0 +1,59 @@
+package seedu.powercards.model.deck;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps one canonical {@code Deck} per deck name, so that all the cards of a deck can refer to the same instance
+ * instead of each carrying its own copy of the deck and its name.
+ * Canonical decks are never selected, see {@link Deck#buildUnselectedDeck()}.
+ *
+ * Safe to use from several threads, so that cards converted in parallel can share it.
+ */
+public class DeckRegistry {
+
+    private final ConcurrentMap<String, Deck> canonicalDecks = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical deck equal to {@code deck}, registering an unselected {@code deck} as the canonical
+     * deck of its name if there is none yet.
+     */
+    public Deck intern(Deck deck) {
+        requireNonNull(deck);
+        Deck canonicalDeck = canonicalDecks.get(deck.getDeckName());
+        if (canonicalDeck != null) {
+            return canonicalDeck;
+        }
+        return canonicalDecks.computeIfAbsent(deck.getDeckName(),
+                unused -> deck.isSelected() ? deck.buildUnselectedDeck() : deck);
+    }
+
+    /**
+     * Returns the canonical deck named {@code deckName}, creating it if there is none yet.
+     */
+    public Deck intern(String deckName) {
+        requireNonNull(deckName);
+        Deck canonicalDeck = canonicalDecks.get(deckName);
+        if (canonicalDeck != null) {
+            return canonicalDeck;
+        }
+        return canonicalDecks.computeIfAbsent(deckName, Deck::new);
+    }
+
+    /**
+     * Forgets the canonical deck equal to {@code deck}, if any.
+     */
+    public void remove(Deck deck) {
+        requireNonNull(deck);
+        canonicalDecks.remove(deck.getDeckName());
+    }
+
+    /**
+     * Forgets every canonical deck.
+     */
+    public void clear() {
+        canonicalDecks.clear();
+    }
+}
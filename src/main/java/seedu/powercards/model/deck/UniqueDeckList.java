@@ -3,8 +3,10 @@ package seedu.powercards.model.deck;
 import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -90,9 +92,7 @@ public class UniqueDeckList implements Iterable<Deck> {
      */
     public void setDecks(List<Deck> decks) {
         requireAllNonNull(decks);
-        if (!decksAreUnique(decks)) {
-            throw new DuplicateDeckException();
-        }
+        requireUniqueDecks(decks);
 
         internalList.setAll(decks);
     }
@@ -122,16 +122,17 @@ public class UniqueDeckList implements Iterable<Deck> {
     }
 
     /**
-     * Returns true if {@code cards} contains only unique decks.
+     * Checks that {@code decks} contains only unique decks.
+     *
+     * @throws DuplicateDeckException naming the first clashing pair if {@code decks} contains duplicate decks.
      */
-    private boolean decksAreUnique(List<Deck> decks) {
-        for (int i = 0; i < decks.size() - 1; i++) {
-            for (int j = i + 1; j < decks.size(); j++) {
-                if (decks.get(i).isSameDeck(decks.get(j))) {
-                    return false;
-                }
+    private static void requireUniqueDecks(List<Deck> decks) {
+        Map<String, Deck> seen = new HashMap<>(decks.size() * 4 / 3 + 1);
+        for (Deck deck : decks) {
+            Deck clash = seen.putIfAbsent(deck.getDeckName(), deck);
+            if (clash != null) {
+                throw new DuplicateDeckException(clash, deck);
             }
         }
-        return true;
     }
 }
@@ -0,0 +1,16 @@
+package seedu.powercards.model.deck.exceptions;
+
+import seedu.powercards.model.deck.Deck;
+
+/**
+ * Signals that the cards of a deck that was not yet in memory could not be loaded.
+ */
+public class DeckLoadException extends RuntimeException {
+    public DeckLoadException(Deck deck, Throwable cause) {
+        super(String.format("Could not load the cards of deck [%s]: %s", deck, cause.getMessage()), cause);
+    }
+
+    public DeckLoadException(Deck deck, String reason) {
+        super(String.format("Could not load the cards of deck [%s]: %s", deck, reason));
+    }
+}
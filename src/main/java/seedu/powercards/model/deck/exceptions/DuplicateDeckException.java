@@ -1,5 +1,7 @@
 package seedu.powercards.model.deck.exceptions;
 
+import seedu.powercards.model.deck.Deck;
+
 /**
  * Signals that the operation will result in duplicate deckss (Cards are considered duplicates if they have the same
  * name).
@@ -8,4 +10,11 @@ public class DuplicateDeckException extends RuntimeException {
     public DuplicateDeckException() {
         super("Operation would result in duplicate cards");
     }
+
+    /**
+     * Constructs a {@code DuplicateDeckException} that names the first pair of clashing decks found.
+     */
+    public DuplicateDeckException(Deck first, Deck second) {
+        super(String.format("Operation would result in duplicate decks: [%s] and [%s]", first, second));
+    }
 }
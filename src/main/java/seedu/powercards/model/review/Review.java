@@ -1,86 +1,168 @@
 package seedu.powercards.model.review;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.powercards.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.util.Pair;
+import seedu.powercards.commons.util.LongIntHashMap;
 import seedu.powercards.model.card.Card;
-import seedu.powercards.model.card.IsSameCardPredicate;
-import seedu.powercards.model.card.UniqueCardList;
 import seedu.powercards.model.deck.Deck;
 import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
 
 /**
  * Represents a Review session that is currently underway.
  * Guarantees: details are present and not null, field values are validated.
+ *
+ * A review refers to the cards of its deck by their position in the list it is given, which it does not copy or
+ * filter, and holds only the cards drawn for it. The cards eligible for the review, such as those with some tags,
+ * are told apart by a predicate that is tested only on the cards the draw lands on. Whether the current card is
+ * flipped is kept apart from the cards, so flipping it does not build a new card in the review.
+ *
+ * The tags of the drawn cards are counted as they are given, and only the rows of the review statistics that
+ * change are replaced.
  */
 public class Review {
 
+    private static final int CARD_NUMBER_ROW = 1;
+    private static final int TAG_COUNT_ROW = 2;
+    private static final int NOT_COUNTED = -1;
+
     private final Deck deck;
 
-    private UniqueCardList uniqueReviewCardList;
-    private final ObservableList<Card> unmodifiableReviewCardList;
-    private final FilteredList<Card> filteredReviewCardList;
+    private final List<Card> cardsInDeck;
+    private final Predicate<? super Card> isEligible;
+    private final ObservableList<Card> currCardList;
+    private final ObservableList<Card> unmodifiableCurrCardList;
 
     private final int totalNumCards;
-    private Card currCard;
-    private final List<Integer> orderOfCards;
+    private final int[] orderOfCards;
+    private final Card[] drawnCards; // the drawn cards as they were when the review started, in review order
+    private final Card[] reviewCards; // the drawn cards as tagged in this review, in review order
     private int currCardIndex = 0; // 0-Indexed
+    private boolean isCurrCardFlipped = false;
+    private final int[] tagCounts = new int[TagName.values().length]; // of the drawn cards, by tag name ordinal
+    private int untaggedUndrawnCount = NOT_COUNTED; // counted when first asked for
     private ObservableList<Pair<String, String>> reviewStatsList;
 
     /**
      * Every field must be present and not null.
+     * {@code cardsInDeck} is referred to rather than copied. Its cards may be replaced during the review, as when
+     * they are tagged in the master deck, but none may be added or removed.
      */
     public Review(Deck deck, List<Card> cardsInDeck, int userSetNum) {
-        requireAllNonNull(deck, cardsInDeck, userSetNum);
+        this(deck, cardsInDeck, userSetNum, new Random());
+    }
 
-        this.deck = deck;
-        totalNumCards = userSetNum < 0
-                ? cardsInDeck.size()
-                : Integer.min(userSetNum, cardsInDeck.size());
+    /**
+     * Creates a review whose cards are drawn with {@code random}, so that a review can be repeated by drawing with
+     * a {@code Random} of the same seed.
+     * Every field must be present and not null.
+     */
+    public Review(Deck deck, List<Card> cardsInDeck, int userSetNum, Random random) {
+        this(deck, cardsInDeck, card -> true, cardsInDeck.size(), userSetNum, random);
+    }
 
-        // Initialize the unique card list
-        initReviewCardList(cardsInDeck);
-        this.unmodifiableReviewCardList = uniqueReviewCardList.asUnmodifiableObservableList();
-        filteredReviewCardList = new FilteredList<>(this.unmodifiableReviewCardList);
+    /**
+     * Creates a review of the cards in {@code cardsInDeck} that satisfy {@code isEligible}, of which there are
+     * {@code eligibleCount}, drawn with {@code random}.
+     * Every field must be present and not null.
+     */
+    public Review(Deck deck, List<Card> cardsInDeck, Predicate<? super Card> isEligible, int eligibleCount,
+            int userSetNum, Random random) {
+        this(deck, cardsInDeck, isEligible, drawOrder(cardsInDeck, isEligible, eligibleCount,
+                countOfCards(eligibleCount, userSetNum), random));
+    }
+
+    /**
+     * Creates a review of the cards at {@code orderOfCards} in {@code cardsInDeck}, in that order.
+     */
+    private Review(Deck deck, List<Card> cardsInDeck, Predicate<? super Card> isEligible, int[] orderOfCards) {
+        requireAllNonNull(deck, cardsInDeck);
 
-        // Randomise order of cards based on the total number of cards allowed in review
-        orderOfCards = new Random().ints(0, cardsInDeck.size())
-                .distinct().limit(totalNumCards).boxed().collect(Collectors.toList());
+        this.deck = deck;
+        this.cardsInDeck = cardsInDeck;
+        this.isEligible = isEligible;
+        this.orderOfCards = orderOfCards;
+        totalNumCards = orderOfCards.length;
+        drawnCards = new Card[totalNumCards];
+        for (int i = 0; i < totalNumCards; i++) {
+            drawnCards[i] = cardsInDeck.get(orderOfCards[i]);
+            tagCounts[drawnCards[i].getTag().tagName.ordinal()]++;
+        }
+        reviewCards = drawnCards.clone();
 
         // initialise first card
-        currCard = this.unmodifiableReviewCardList.get(orderOfCards.get(currCardIndex));
-        filteredReviewCardList.setPredicate(new IsSameCardPredicate(currCard));
+        currCardList = FXCollections.observableArrayList(buildCurrCardAsShown());
+        unmodifiableCurrCardList = FXCollections.unmodifiableObservableList(currCardList);
 
         // initialize review stats
-        reviewStatsList = FXCollections.observableList(new ArrayList<>());
-        updateReviewStatsList();
+        reviewStatsList = FXCollections.observableArrayList(new Pair<>("Deck Name", deck.getDeckName()),
+                buildCardNumberRow(), buildTagCountRow(), new Pair<>("", ""));
+    }
+
+    /**
+     * Creates a review of all of {@code cards}, in the order given, such as the cards of a deck that are due.
+     * {@code cards} is referred to rather than copied, so it must not be changed during the review.
+     */
+    public static Review inOrder(Deck deck, List<Card> cards) {
+        requireAllNonNull(deck, cards);
+        return new Review(deck, cards, card -> true, IntStream.range(0, cards.size()).toArray());
     }
 
     /**
-     * Initialize all cards as unflipped in an UniqueCardList instance.
+     * Returns the number of cards to draw from the {@code eligibleCount} eligible cards, which is all of them if
+     * {@code userSetNum} is negative.
+     */
+    private static int countOfCards(int eligibleCount, int userSetNum) {
+        return userSetNum < 0
+                ? eligibleCount
+                : Integer.min(userSetNum, eligibleCount);
+    }
+
+    /**
+     * Returns the positions of {@code count} distinct cards in {@code cardsInDeck} that satisfy {@code isEligible},
+     * drawn at random with {@code random}, in the order drawn. Fewer are returned if there are fewer such cards.
      *
-     * @param cardList List of Cards to initialize UniqueCardList with.
+     * The positions are drawn by the steps of a Fisher-Yates shuffle of all positions in the deck, skipping the
+     * cards that are not eligible, and stopping once enough cards are drawn. Only the positions that the shuffle
+     * has swapped are kept, in a primitive map that does not box them, so the draw takes time and memory in
+     * proportion to the number of steps rather than to the deck. If every card is eligible, as told by
+     * {@code eligibleCount}, no card is read to test it and there is a step per card drawn.
      */
-    private void initReviewCardList(List<Card> cardList) {
-        uniqueReviewCardList = new UniqueCardList();
-        for (Card c : cardList) {
-            uniqueReviewCardList.add(c.buildUnflippedCard());
+    private static int[] drawOrder(List<Card> cardsInDeck, Predicate<? super Card> isEligible, int eligibleCount,
+            int count, Random random) {
+        requireAllNonNull(cardsInDeck, isEligible);
+        int deckSize = cardsInDeck.size();
+        boolean isEveryCardEligible = eligibleCount == deckSize;
+        LongIntHashMap swappedPositions = new LongIntHashMap();
+        int[] positions = new int[count];
+        int drawnCount = 0;
+        for (int i = 0; i < deckSize && drawnCount < count; i++) {
+            int drawn = i + random.nextInt(deckSize - i);
+            int position = swappedPositions.getOrDefault(drawn, drawn);
+            swappedPositions.put(drawn, swappedPositions.getOrDefault(i, i));
+            swappedPositions.remove(i); // the shuffle never comes back to position i
+            if (isEveryCardEligible || isEligible.test(cardsInDeck.get(position))) {
+                positions[drawnCount++] = position;
+            }
         }
+        return drawnCount == count ? positions : Arrays.copyOf(positions, drawnCount);
     }
 
     /**
-     * Returns the list of card in this review.
+     * Returns the list holding the current card of this review, flipped or unflipped as it is shown.
      */
     public ObservableList<Card> getFilteredReviewCardList() {
-        return filteredReviewCardList;
+        return unmodifiableCurrCardList;
     }
 
     public Deck getDeck() {
@@ -91,32 +173,23 @@ public class Review {
         return deck.getDeckName();
     }
 
-    private void unflipCard(Card card) {
-        this.uniqueReviewCardList.setCard(card, card.buildUnflippedCard());
-    }
-
-    private void flipCard(Card card) {
-        this.uniqueReviewCardList.setCard(card, card.buildFlippedCard());
+    private Card buildCurrCardAsShown() {
+        Card currCard = reviewCards[currCardIndex];
+        return isCurrCardFlipped ? currCard.buildFlippedCard() : currCard.buildUnflippedCard();
     }
 
     /**
-     * Updates the current card whenever the current card is modified in the Review card list.
+     * Shows the current card as it is now in the review.
      */
     private void updateCurrCard() {
-        int indexInReview = orderOfCards.get(currCardIndex);
-        currCard = this.unmodifiableReviewCardList.get(indexInReview);
+        currCardList.set(0, buildCurrCardAsShown());
     }
 
     /**
      * Flips the current card in review.
      */
     public void flipCurrCard() {
-        if (currCard.isFlipped()) {
-            unflipCard(currCard);
-        } else {
-            flipCard(currCard);
-        }
-
+        isCurrCardFlipped = !isCurrCardFlipped;
         updateCurrCard();
     }
 
@@ -126,7 +199,7 @@ public class Review {
      * @return true if the current card is flipped, otherwise false
      */
     public boolean isCurrCardFlipped() {
-        return currCard.isFlipped();
+        return isCurrCardFlipped;
     }
 
     /**
@@ -138,13 +211,12 @@ public class Review {
             return false;
         }
 
-        unflipCard(currCard); // always unflip current card before moving to next
+        isCurrCardFlipped = false; // always unflip current card before moving to next
 
         currCardIndex++;
-        currCard = unmodifiableReviewCardList.get(orderOfCards.get(currCardIndex));
-        filteredReviewCardList.setPredicate(new IsSameCardPredicate(currCard));
+        updateCurrCard();
 
-        updateReviewStatsList();
+        updateStatsRow(CARD_NUMBER_ROW, buildCardNumberRow());
         return true;
     }
 
@@ -157,13 +229,12 @@ public class Review {
             return false;
         }
 
-        unflipCard(currCard); // always unflip current card before moving to previous one
+        isCurrCardFlipped = false; // always unflip current card before moving to previous one
 
         currCardIndex--;
-        currCard = unmodifiableReviewCardList.get(orderOfCards.get(currCardIndex));
-        filteredReviewCardList.setPredicate(new IsSameCardPredicate(currCard));
+        updateCurrCard();
 
-        updateReviewStatsList();
+        updateStatsRow(CARD_NUMBER_ROW, buildCardNumberRow());
         return true;
     }
 
@@ -174,7 +245,15 @@ public class Review {
      * @return the current card flipped.
      */
     public Card getCurrCard() {
-        return currCard.buildFlippedCard();
+        Card currCard = reviewCards[currCardIndex];
+        return currCard.isFlipped() ? currCard : currCard.buildFlippedCard();
+    }
+
+    /**
+     * Returns the current card as it was drawn when the review started, before it was tagged in this review.
+     */
+    public Card getCurrCardAsDrawn() {
+        return drawnCards[currCardIndex];
     }
 
     /**
@@ -183,9 +262,20 @@ public class Review {
      * @param tag the tag to add to current card.
      */
     public void tagCurrentCard(Tag tag) {
-        uniqueReviewCardList.setCard(currCard, currCard.buildCardWithtag(tag));
+        tagCurrentCard(reviewCards[currCardIndex].buildCardWithtag(tag));
+    }
+
+    /**
+     * Replaces the current card in review with {@code taggedCard}, the card as it was tagged in the master deck,
+     * so that the current card stays equal to the one stored there.
+     */
+    public void tagCurrentCard(Card taggedCard) {
+        requireNonNull(taggedCard);
+        tagCounts[reviewCards[currCardIndex].getTag().tagName.ordinal()]--;
+        reviewCards[currCardIndex] = taggedCard;
+        tagCounts[taggedCard.getTag().tagName.ordinal()]++;
         updateCurrCard();
-        updateReviewStatsList();
+        updateStatsRow(TAG_COUNT_ROW, buildTagCountRow());
     }
 
     public ObservableList<Pair<String, String>> getReviewStatsList() {
@@ -193,26 +283,30 @@ public class Review {
     }
 
     public int getNoOfEasyTags() {
-        return (int) orderOfCards.stream()
-                .map(unmodifiableReviewCardList::get)
-                .filter(card -> card.getTagName().equals("easy")).count();
-
+        return tagCounts[TagName.EASY.ordinal()];
     }
 
     public int getNoOfMediumTags() {
-        return (int) orderOfCards.stream()
-                .map(unmodifiableReviewCardList::get)
-                .filter(card -> card.getTagName().equals("medium")).count();
+        return tagCounts[TagName.MEDIUM.ordinal()];
     }
 
     public int getNoOfHardTags() {
-        return (int) orderOfCards.stream()
-                .map(unmodifiableReviewCardList::get)
-                .filter(card -> card.getTagName().equals("hard")).count();
+        return tagCounts[TagName.HARD.ordinal()];
     }
 
+    /**
+     * Returns the number of untagged cards in the review, counting the eligible cards that were not drawn as they
+     * are in the deck. The cards not drawn are counted the first time this is called.
+     */
     public int getNoOfUntagged() {
-        return (int) unmodifiableReviewCardList.stream().filter(card -> card.getTagName().equals("untagged")).count();
+        if (untaggedUndrawnCount == NOT_COUNTED) {
+            Predicate<Card> isUntaggedInReview = card -> card.getTag().isUntagged() && isEligible.test(card);
+            int untaggedInDeckCount = (int) cardsInDeck.stream().filter(isUntaggedInReview).count();
+            int untaggedDrawnCount = (int) Arrays.stream(orderOfCards)
+                    .filter(position -> isUntaggedInReview.test(cardsInDeck.get(position))).count();
+            untaggedUndrawnCount = untaggedInDeckCount - untaggedDrawnCount;
+        }
+        return untaggedUndrawnCount + tagCounts[TagName.UNTAGGED.ordinal()];
     }
 
     public ObservableList<Pair<String, String> > getReviewDeckNameList() {
@@ -224,14 +318,25 @@ public class Review {
      * The review statistics are updated when next, prev and tagging commands are called.
      */
     public void updateReviewStatsList() {
-        Pair<String, String> title = new Pair<>("Deck Name", deck.getDeckName());
-        Pair<String, String> cardsSeen = new Pair<>("Current Card Number:",
-                String.format("%d/%d", currCardIndex + 1, totalNumCards));
-        Pair<String, String> tagCount = new Pair<>("Current Tags:",
-                 String.format("%d Easy, %d Medium, %d Hard",
-                         getNoOfEasyTags(), getNoOfMediumTags(), getNoOfHardTags()));
-        Pair<String, String> navGuide = new Pair<>("", "");
-        this.reviewStatsList.clear();
-        this.reviewStatsList.addAll(title, cardsSeen, tagCount, navGuide); // warning being called here
+        updateStatsRow(CARD_NUMBER_ROW, buildCardNumberRow());
+        updateStatsRow(TAG_COUNT_ROW, buildTagCountRow());
+    }
+
+    private Pair<String, String> buildCardNumberRow() {
+        return new Pair<>("Current Card Number:", String.format("%d/%d", currCardIndex + 1, totalNumCards));
+    }
+
+    private Pair<String, String> buildTagCountRow() {
+        return new Pair<>("Current Tags:", String.format("%d Easy, %d Medium, %d Hard",
+                getNoOfEasyTags(), getNoOfMediumTags(), getNoOfHardTags()));
+    }
+
+    /**
+     * Replaces the row at {@code index} of the review statistics with {@code row}, unless it is unchanged.
+     */
+    private void updateStatsRow(int index, Pair<String, String> row) {
+        if (!reviewStatsList.get(index).equals(row)) {
+            reviewStatsList.set(index, row);
+        }
     }
 }
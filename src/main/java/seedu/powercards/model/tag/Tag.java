@@ -2,6 +2,9 @@ package seedu.powercards.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the master deck.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -22,11 +25,15 @@ public class Tag {
             + "Tag is case-insensitive.";
 
     public static final String VALIDATION_REGEX = "(?i)\\b(easy|medium|hard)\\b";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Tag[] CANONICAL_TAGS = Arrays.stream(TagName.values()).map(Tag::new).toArray(Tag[]::new);
 
     public final TagName tagName;
 
     /**
      * Constructs a {@code Tag}.
+     * Prefer {@link #of(TagName)}, which does not create a new tag.
      *
      * @param tagName A valid tag name.
      */
@@ -35,11 +42,20 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared tag of {@code tagName}.
+     * As tags are immutable, every card can refer to the same instance for a given tag name.
+     */
+    public static Tag of(TagName tagName) {
+        requireNonNull(tagName);
+        return CANONICAL_TAGS[tagName.ordinal()];
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
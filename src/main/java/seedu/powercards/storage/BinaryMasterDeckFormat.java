@@ -0,0 +1,327 @@
+package seedu.powercards.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.powercards.commons.exceptions.DataConversionException;
+import seedu.powercards.commons.exceptions.IllegalValueException;
+import seedu.powercards.commons.util.FileUtil;
+import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.card.Answer;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.Question;
+import seedu.powercards.model.card.Schedule;
+import seedu.powercards.model.card.exceptions.DuplicateCardException;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DuplicateDeckException;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+
+/**
+ * Reads and writes master decks in the compact binary snapshot format.
+ *
+ * A file is laid out as:
+ * <pre>
+ *   "PCMD" | version (byte)
+ *   deck count (varint) | deck names (string)...
+ *   card count (varint) | cards...
+ * </pre>
+ * where each card is its deck's position in the deck list (varint), its id (varint), its tag as a {@code TagName}
+ * ordinal (byte), its review schedule as an ease factor in hundredths, interval in days, repetition count and due
+ * epoch day (varints), then its question and answer (string). Strings are a varint byte length followed by UTF-8
+ * bytes. Varints are unsigned LEB128, so most deck references and lengths take a single byte.
+ *
+ * Changing this layout, or the order of {@code TagName}, requires a new {@link #VERSION}.
+ */
+final class BinaryMasterDeckFormat {
+
+    public static final int VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary master deck.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary master deck version %d is not supported.";
+    public static final String MESSAGE_CORRUPT = "Binary master deck is corrupt: %s";
+
+    private static final byte[] MAGIC = {'P', 'C', 'M', 'D'};
+    private static final boolean IS_WINDOWS = System.getProperty("os.name").startsWith("Windows");
+
+    private BinaryMasterDeckFormat() {}
+
+    /**
+     * The decks and cards of a binary file, in file order, before they are put into a {@code MasterDeck}.
+     */
+    static class Records {
+        final List<Deck> decks;
+        final List<Card> cards;
+
+        Records(List<Deck> decks, List<Card> cards) {
+            this.decks = decks;
+            this.cards = cards;
+        }
+    }
+
+    /**
+     * Returns true if {@code file} exists and starts with the binary master deck header.
+     */
+    static boolean isBinaryFile(Path file) throws IOException {
+        if (!FileUtil.isFileExists(file)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    /**
+     * Atomically writes {@code cards} and {@code decks} to {@code file}.
+     *
+     * @throws IOException if a card is in a deck that is not in {@code decks}, or the file cannot be written.
+     */
+    static void write(Path file, List<Card> cards, List<Deck> decks) throws IOException {
+        FileUtil.writeToFileAtomically(file, out -> write(out, cards, decks));
+    }
+
+    private static void write(OutputStream stream, List<Card> cards, List<Deck> decks) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+
+        Map<Deck, Integer> deckRefs = new HashMap<>();
+        writeVarLong(out, decks.size());
+        for (Deck deck : decks) {
+            deckRefs.put(deck, deckRefs.size());
+            writeString(out, deck.getDeckName());
+        }
+
+        writeVarLong(out, cards.size());
+        for (Card card : cards) {
+            Integer deckRef = deckRefs.get(card.getDeck());
+            if (deckRef == null) {
+                throw new IOException(JsonSerializableMasterDeck.MESSAGE_MISSING_DECK);
+            }
+            writeVarLong(out, deckRef);
+            writeVarLong(out, card.getId());
+            out.writeByte(card.getTag().tagName.ordinal());
+            Schedule schedule = card.getSchedule();
+            writeVarLong(out, schedule.getEaseFactor());
+            writeVarLong(out, schedule.getIntervalDays());
+            writeVarLong(out, schedule.getRepetitions());
+            writeVarLong(out, schedule.getDueEpochDay());
+            writeString(out, card.getQuestion().getText());
+            writeString(out, card.getAnswer().getText());
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads the binary master deck in {@code file}.
+     * Records are parsed straight from a memory-mapped view of the file, see {@link #load(Path)}.
+     *
+     * @throws DataConversionException if the file is not a valid binary master deck.
+     */
+    static MasterDeck read(Path file) throws IOException, DataConversionException {
+        Records records = readRecords(file);
+        MasterDeck masterDeck = new MasterDeck();
+        try {
+            masterDeck.setDecks(records.decks);
+        } catch (DuplicateDeckException dde) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableMasterDeck.MESSAGE_DUPLICATE_DECK));
+        }
+        try {
+            masterDeck.setCards(records.cards);
+        } catch (DuplicateCardException dce) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableMasterDeck.MESSAGE_DUPLICATE_CARD));
+        }
+        return masterDeck;
+    }
+
+    /**
+     * Reads the decks and cards in {@code file} without checking them for duplicates, for callers that merge
+     * several files into one {@code MasterDeck} and check the result once.
+     *
+     * @throws DataConversionException if the file is not a valid binary master deck.
+     */
+    static Records readRecords(Path file) throws IOException, DataConversionException {
+        try {
+            return parse(new RecordReader(load(file)));
+        } catch (BufferUnderflowException bue) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_CORRUPT, "unexpected end of file")));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the content of {@code file} as a buffer, memory-mapping it where that is safe.
+     * Windows cannot replace a file while a mapping of it is open, and a mapping is only released once it is
+     * garbage collected, so there the file is read into the heap instead. Either way the content is not decoded.
+     */
+    private static ByteBuffer load(Path file) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "file is larger than 2GB"));
+            }
+            if (!IS_WINDOWS) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static Records parse(RecordReader in) throws IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        in.buffer.get(magic);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int deckCount = in.readCount();
+        List<Deck> decks = new ArrayList<>(deckCount);
+        for (int i = 0; i < deckCount; i++) {
+            String deckName = in.readString();
+            if (!Deck.isValidDeckName(deckName)) {
+                throw new IllegalValueException(Deck.MESSAGE_CONSTRAINTS);
+            }
+            decks.add(new Deck(deckName));
+        }
+
+        TagName[] tagNames = TagName.values();
+        int cardCount = in.readCount();
+        List<Card> cards = new ArrayList<>(cardCount);
+        for (int i = 0; i < cardCount; i++) {
+            long deckRef = in.readVarLong();
+            if (deckRef >= decks.size()) {
+                throw new IllegalValueException(JsonSerializableMasterDeck.MESSAGE_MISSING_DECK);
+            }
+            long id = in.readVarLong();
+            int tagOrdinal = in.readUnsignedByte();
+            if (tagOrdinal >= tagNames.length) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            Schedule schedule = in.readSchedule();
+            Question question;
+            try {
+                question = new Question(in.readString()); // validates the question
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
+            }
+            Answer answer;
+            try {
+                answer = new Answer(in.readString()); // validates the answer
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+            }
+            cards.add(new Card(question, answer, Tag.of(tagNames[tagOrdinal]), decks.get((int) deckRef), id,
+                    schedule));
+        }
+        return new Records(decks, cards);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads the primitive values of the format from a buffer.
+     */
+    private static class RecordReader {
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[256];
+
+        RecordReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readUnsignedByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        long readVarLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "varint too long"));
+        }
+
+        /**
+         * Reads a count of items that each take at least a byte, so a count larger than what is left of the
+         * buffer must be corrupt. This keeps a damaged file from causing a huge allocation.
+         */
+        int readCount() throws IllegalValueException {
+            long count = readVarLong();
+            if (count > buffer.remaining()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "length " + count + " exceeds file"));
+            }
+            return (int) count;
+        }
+
+        /**
+         * Reads a review schedule, of which cards that were never reviewed share {@link Schedule#NEW}.
+         */
+        Schedule readSchedule() throws IllegalValueException {
+            long easeFactor = readVarLong();
+            long intervalDays = readVarLong();
+            long repetitions = readVarLong();
+            long dueEpochDay = readVarLong();
+            boolean isInRange = easeFactor <= Integer.MAX_VALUE && intervalDays <= Integer.MAX_VALUE
+                    && repetitions <= Integer.MAX_VALUE;
+            if (!isInRange || !Schedule.isValidSchedule((int) easeFactor, (int) intervalDays, (int) repetitions,
+                    dueEpochDay)) {
+                throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
+            }
+            return Schedule.of((int) easeFactor, (int) intervalDays, (int) repetitions, dueEpochDay);
+        }
+
+        /**
+         * Decodes a string from the buffer, copying only its own bytes.
+         */
+        String readString() throws IllegalValueException {
+            int length = readCount();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
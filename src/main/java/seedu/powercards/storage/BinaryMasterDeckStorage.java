@@ -0,0 +1,83 @@
+package seedu.powercards.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.powercards.commons.exceptions.DataConversionException;
+import seedu.powercards.model.ReadOnlyMasterDeck;
+
+/**
+ * A class to access MasterDeck data stored in the compact binary format on the hard disk.
+ *
+ * Files are recognised by their header rather than their name, so a json master deck can still be read and is
+ * replaced by the binary format on the next save. Saving to any other path writes json, for exporting.
+ *
+ * @see BinaryMasterDeckFormat
+ */
+public class BinaryMasterDeckStorage implements MasterDeckStorage {
+
+    private final Path filePath;
+    private final JsonMasterDeckStorage jsonStorage;
+
+    /**
+     * Creates a {@code BinaryMasterDeckStorage} for the master deck file at {@code filePath}.
+     */
+    public BinaryMasterDeckStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.jsonStorage = new JsonMasterDeckStorage(filePath);
+    }
+
+    @Override
+    public Path getMasterDeckFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMasterDeck> readMasterDeck() throws DataConversionException, IOException {
+        return readMasterDeck(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMasterDeck()}.
+     * Reads {@code filePath} as binary or json depending on its header.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMasterDeck> readMasterDeck(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!BinaryMasterDeckFormat.isBinaryFile(filePath)) {
+            return jsonStorage.readMasterDeck(filePath);
+        }
+        return Optional.of(BinaryMasterDeckFormat.read(filePath));
+    }
+
+    @Override
+    public void saveMasterDeck(ReadOnlyMasterDeck masterDeck) throws IOException {
+        saveMasterDeck(masterDeck, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMasterDeck(ReadOnlyMasterDeck)}.
+     * Saving to any path other than this storage's own file path writes a json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMasterDeck(ReadOnlyMasterDeck masterDeck, Path filePath) throws IOException {
+        requireNonNull(masterDeck);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveMasterDeck(masterDeck, filePath);
+            return;
+        }
+        BinaryMasterDeckFormat.write(filePath, masterDeck.getCardList(), masterDeck.getDeckList());
+    }
+}
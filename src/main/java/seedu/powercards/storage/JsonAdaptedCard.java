@@ -1,13 +1,19 @@
 package seedu.powercards.storage;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.powercards.commons.exceptions.IllegalValueException;
 import seedu.powercards.model.card.Answer;
 import seedu.powercards.model.card.Card;
 import seedu.powercards.model.card.Question;
+import seedu.powercards.model.card.Schedule;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.DeckRegistry;
 import seedu.powercards.model.tag.Tag;
 
 /**
@@ -22,26 +28,63 @@ class JsonAdaptedCard {
     private final String tag;
     private final String deck;
 
+    // Absent from cards saved before cards had ids, which are given new ids when read.
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long id;
+
+    // Absent from cards that were never reviewed, which have the schedule of a new card.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer ease;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer interval;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer repetitions;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String due;
+
     /**
      * Constructs a {@code JsonAdaptedCard} with the given card details.
      */
     @JsonCreator
     public JsonAdaptedCard(@JsonProperty("question") String question, @JsonProperty("answer") String address,
-                           @JsonProperty("tag") String tag, @JsonProperty("deck") String deck) {
+                           @JsonProperty("tag") String tag, @JsonProperty("deck") String deck,
+                           @JsonProperty("id") Long id, @JsonProperty("ease") Integer ease,
+                           @JsonProperty("interval") Integer interval,
+                           @JsonProperty("repetitions") Integer repetitions, @JsonProperty("due") String due) {
         this.question = question;
         this.answer = address;
         this.tag = tag;
         this.deck = deck;
+        this.id = id == null ? Card.NO_ID : id;
+        this.ease = ease;
+        this.interval = interval;
+        this.repetitions = repetitions;
+        this.due = due;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedCard} of a card without an id that was never reviewed.
+     */
+    public JsonAdaptedCard(String question, String answer, String tag, String deck) {
+        this(question, answer, tag, deck, null, null, null, null, null);
     }
 
     /**
      * Converts a given {@code Card} into this class for Jackson use.
      */
     public JsonAdaptedCard(Card source) {
-        question = source.getQuestion().question;
-        answer = source.getAnswer().answer;
+        question = source.getQuestion().getText();
+        answer = source.getAnswer().getText();
         tag = source.getTagName();
         deck = source.getDeck().getDeckName();
+        id = source.getId();
+
+        Schedule schedule = source.getSchedule();
+        boolean isNew = schedule.equals(Schedule.NEW);
+        ease = isNew ? null : schedule.getEaseFactor();
+        interval = isNew ? null : schedule.getIntervalDays();
+        repetitions = isNew ? null : schedule.getRepetitions();
+        due = isNew ? null : schedule.getDueDate().toString();
     }
 
     /**
@@ -50,12 +93,43 @@ class JsonAdaptedCard {
      * @throws IllegalValueException if there were any data constraints violated in the adapted card.
      */
     public Card toModelType() throws IllegalValueException {
+        return toModelType(new DeckRegistry());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted card object into the model's {@code Card} object,
+     * in the canonical deck of {@code deckRegistry}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted card.
+     */
+    public Card toModelType(DeckRegistry deckRegistry) throws IllegalValueException {
         final Question modelQuestion = toModelQuestion();
         final Answer modelAnswer = toModelAnswer();
         final Tag modelTag = toModelTag();
-        final Deck modelDeck = new Deck(deck);
+        final Deck modelDeck = deckRegistry.intern(deck);
+        final Schedule modelSchedule = toModelSchedule();
+
+        return new Card(modelQuestion, modelAnswer, modelTag, modelDeck, id, modelSchedule);
+    }
 
-        return new Card(modelQuestion, modelAnswer, modelTag, modelDeck);
+    /**
+     * Returns the schedule of the card, taking each field that is absent from that of a new card.
+     */
+    private Schedule toModelSchedule() throws IllegalValueException {
+        Schedule newSchedule = Schedule.NEW;
+        long dueEpochDay;
+        try {
+            dueEpochDay = due == null ? newSchedule.getDueEpochDay() : LocalDate.parse(due).toEpochDay();
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
+        }
+        int modelEase = ease == null ? newSchedule.getEaseFactor() : ease;
+        int modelInterval = interval == null ? newSchedule.getIntervalDays() : interval;
+        int modelRepetitions = repetitions == null ? newSchedule.getRepetitions() : repetitions;
+        if (!Schedule.isValidSchedule(modelEase, modelInterval, modelRepetitions, dueEpochDay)) {
+            throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
+        }
+        return Schedule.of(modelEase, modelInterval, modelRepetitions, dueEpochDay);
     }
 
     private Question toModelQuestion() throws IllegalValueException {
@@ -64,10 +138,11 @@ class JsonAdaptedCard {
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Question.class.getSimpleName())
             );
         }
-        if (!Question.isValidQuestion(question)) {
+        try {
+            return new Question(question); // validates the question
+        } catch (IllegalArgumentException iae) {
             throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
         }
-        return new Question(question);
     }
 
     private Answer toModelAnswer() throws IllegalValueException {
@@ -76,24 +151,34 @@ class JsonAdaptedCard {
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Answer.class.getSimpleName())
             );
         }
-        if (!Answer.isValidAnswer(answer)) {
+        try {
+            return new Answer(answer); // validates the answer
+        } catch (IllegalArgumentException iae) {
             throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
         }
-        return new Answer(answer);
     }
 
     private Tag toModelTag() throws IllegalValueException {
+        return toModelTag(tag);
+    }
+
+    /**
+     * Returns the tag named {@code tag}, ignoring case, as it is saved by {@link #JsonAdaptedCard(Card)}.
+     *
+     * @throws IllegalValueException if {@code tag} is missing or is not the name of a tag.
+     */
+    static Tag toModelTag(String tag) throws IllegalValueException {
         if (tag == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Tag.class.getSimpleName()));
         }
 
-        Tag modelTag;
-        if (tag.equalsIgnoreCase("untagged") || Tag.isValidTagName(tag)) {
-            modelTag = new Tag(Tag.TagName.valueOf(tag.toUpperCase()));
-        } else {
-            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        // Tag names are matched directly instead of through Tag#isValidTagName, as this runs once per card read.
+        for (Tag.TagName tagName : Tag.TagName.values()) {
+            if (tagName.name().equalsIgnoreCase(tag)) {
+                return Tag.of(tagName);
+            }
         }
-        return modelTag;
+        throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
     }
 
 }
@@ -0,0 +1,201 @@
+package seedu.powercards.storage;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import seedu.powercards.commons.exceptions.IllegalValueException;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.deck.DeckRegistry;
+
+/**
+ * Jackson-friendly version of a list of {@link Card}s, streamed one card record at a time.
+ *
+ * Only a single {@link JsonAdaptedCard} exists at any time while the list is written, instead of one per card.
+ * When reading, records are collected into batches that are converted on the common fork/join pool while later
+ * records are still being parsed, so at most a few batches of records exist at any time.
+ * The first invalid record is kept to be reported by {@link #toModelType()}, so reading a file with invalid cards
+ * still succeeds as it does for the other adapters. The cards read share one {@code Deck} per deck name, see
+ * {@link #getDeckRegistry()}.
+ */
+@JsonSerialize(using = JsonAdaptedCardList.Serializer.class)
+@JsonDeserialize(using = JsonAdaptedCardList.Deserializer.class)
+class JsonAdaptedCardList {
+
+    public static final String MESSAGE_NOT_AN_ARRAY = "Card list is not a json array!";
+
+    private static final int BATCH_SIZE = 4096;
+    private static final int MAX_PENDING_BATCHES = ForkJoinPool.getCommonPoolParallelism() * 2;
+
+    private final List<Card> cards;
+    private final IllegalValueException invalidRecordError;
+    private final DeckRegistry deckRegistry;
+
+    /**
+     * Constructs a {@code JsonAdaptedCardList} of {@code cards}.
+     *
+     * @param cards must not be modified afterwards, as it is not copied.
+     */
+    public JsonAdaptedCardList(List<Card> cards) {
+        this(cards, null, new DeckRegistry());
+    }
+
+    private JsonAdaptedCardList(List<Card> cards, IllegalValueException invalidRecordError,
+                                DeckRegistry deckRegistry) {
+        this.cards = cards;
+        this.invalidRecordError = invalidRecordError;
+        this.deckRegistry = deckRegistry;
+    }
+
+    /**
+     * Returns the registry of the decks of the cards read, so that other decks can be made to share them.
+     */
+    public DeckRegistry getDeckRegistry() {
+        return deckRegistry;
+    }
+
+    /**
+     * Returns the cards in this list.
+     *
+     * @throws IllegalValueException if any card record read was invalid.
+     */
+    public List<Card> toModelType() throws IllegalValueException {
+        if (invalidRecordError != null) {
+            throw invalidRecordError;
+        }
+        return cards;
+    }
+
+    /**
+     * Writes each card as a {@code JsonAdaptedCard} record.
+     */
+    static class Serializer extends JsonSerializer<JsonAdaptedCardList> {
+        @Override
+        public void serialize(JsonAdaptedCardList value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray();
+            for (Card card : value.cards) {
+                generator.writeObject(new JsonAdaptedCard(card));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Reads {@code JsonAdaptedCard} records and converts them into {@code Card}s in batches.
+     */
+    static class Deserializer extends JsonDeserializer<JsonAdaptedCardList> {
+        @Override
+        public JsonAdaptedCardList deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            if (!parser.isExpectedStartArrayToken()) {
+                throw new JsonMappingException(parser, MESSAGE_NOT_AN_ARRAY);
+            }
+
+            DeckRegistry deckRegistry = new DeckRegistry();
+            ConvertedCards converted = new ConvertedCards(new ArrayList<>(), null);
+            Deque<ForkJoinTask<ConvertedCards>> pendingBatches = new ArrayDeque<>();
+            List<JsonAdaptedCard> batch = new ArrayList<>(BATCH_SIZE);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedCard.class));
+                if (batch.size() < BATCH_SIZE) {
+                    continue;
+                }
+                pendingBatches.add(ForkJoinPool.commonPool().submit(
+                        new ConversionTask(batch, 0, batch.size(), deckRegistry)));
+                batch = new ArrayList<>(BATCH_SIZE);
+                if (pendingBatches.size() > MAX_PENDING_BATCHES) {
+                    converted = converted.followedBy(pendingBatches.remove().join());
+                }
+            }
+
+            while (!pendingBatches.isEmpty()) {
+                converted = converted.followedBy(pendingBatches.remove().join());
+            }
+            converted = converted.followedBy(new ConversionTask(batch, 0, batch.size(), deckRegistry).invoke());
+            return new JsonAdaptedCardList(converted.cards, converted.invalidRecordError, deckRegistry);
+        }
+    }
+
+    /**
+     * Cards converted from a run of consecutive records, up to the first invalid record in the run.
+     */
+    private static class ConvertedCards {
+        private final List<Card> cards;
+        private final IllegalValueException invalidRecordError;
+
+        ConvertedCards(List<Card> cards, IllegalValueException invalidRecordError) {
+            this.cards = cards;
+            this.invalidRecordError = invalidRecordError;
+        }
+
+        /**
+         * Returns the cards of this run followed by those of {@code next}, the run of records right after it.
+         * Reuses the card list of this run.
+         */
+        ConvertedCards followedBy(ConvertedCards next) {
+            if (invalidRecordError != null) {
+                return this;
+            }
+            cards.addAll(next.cards);
+            return new ConvertedCards(cards, next.invalidRecordError);
+        }
+    }
+
+    /**
+     * Converts the records from {@code from} to {@code to} of a batch, splitting the range until it is small enough
+     * to convert directly.
+     */
+    private static class ConversionTask extends RecursiveTask<ConvertedCards> {
+        private static final int SEQUENTIAL_THRESHOLD = 512;
+
+        private final List<JsonAdaptedCard> records;
+        private final int from;
+        private final int to;
+        private final DeckRegistry deckRegistry;
+
+        ConversionTask(List<JsonAdaptedCard> records, int from, int to, DeckRegistry deckRegistry) {
+            this.records = records;
+            this.from = from;
+            this.to = to;
+            this.deckRegistry = deckRegistry;
+        }
+
+        @Override
+        protected ConvertedCards compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                List<Card> cards = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    try {
+                        cards.add(records.get(i).toModelType(deckRegistry));
+                    } catch (IllegalValueException ive) {
+                        return new ConvertedCards(cards, ive);
+                    }
+                }
+                return new ConvertedCards(cards, null);
+            }
+
+            int middle = (from + to) >>> 1;
+            ConversionTask firstHalf = new ConversionTask(records, from, middle, deckRegistry);
+            firstHalf.fork();
+            ConvertedCards secondHalf = new ConversionTask(records, middle, to, deckRegistry).compute();
+            return firstHalf.join().followedBy(secondHalf);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.powercards.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.powercards.commons.exceptions.IllegalValueException;
+import seedu.powercards.commons.util.LongIntHashMap;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.deck.Deck;
+
+/**
+ * Jackson-friendly record of a single change to the cards of a deck, as appended to the journal of the deck's
+ * shard, see {@link ShardedMasterDeckStorage}. Cards are referred to by id, which an edited card keeps, and are
+ * always put in the deck of the shard the journal belongs to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INAPPLICABLE_RECORD = "Journal record %s of card %d cannot be applied.";
+
+    /**
+     * The kinds of change that are journaled.
+     */
+    enum Type {
+        ADD_CARD,
+        EDIT_CARD,
+        TAG_CARD,
+        DELETE_CARD
+    }
+
+    private final Type type;
+    private final JsonAdaptedCard card;
+    private final Long id;
+    private final String tag;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type, @JsonProperty("card") JsonAdaptedCard card,
+                                    @JsonProperty("id") Long id, @JsonProperty("tag") String tag) {
+        this.type = type;
+        this.card = card;
+        this.id = id;
+        this.tag = tag;
+    }
+
+    static JsonAdaptedJournalRecord addCard(Card card) {
+        return new JsonAdaptedJournalRecord(Type.ADD_CARD, new JsonAdaptedCard(card), null, null);
+    }
+
+    /**
+     * Returns a record of {@code target} being replaced by {@code editedCard}, which has the same id.
+     * A change of tag alone is recorded as the smaller {@code TAG_CARD} record, but not a review, which also
+     * reschedules the card.
+     */
+    static JsonAdaptedJournalRecord editCard(Card target, Card editedCard) {
+        boolean isTagChangeOnly = target.getQuestion().equals(editedCard.getQuestion())
+                && target.getAnswer().equals(editedCard.getAnswer())
+                && target.getSchedule().equals(editedCard.getSchedule());
+        if (isTagChangeOnly) {
+            return new JsonAdaptedJournalRecord(Type.TAG_CARD, null, editedCard.getId(), editedCard.getTagName());
+        }
+        return new JsonAdaptedJournalRecord(Type.EDIT_CARD, new JsonAdaptedCard(editedCard), null, null);
+    }
+
+    static JsonAdaptedJournalRecord deleteCard(Card card) {
+        return new JsonAdaptedJournalRecord(Type.DELETE_CARD, null, card.getId(), null);
+    }
+
+    /**
+     * Replays this record on {@code cards}, the cards of {@code deck} so far, whose positions are kept by id in
+     * {@code positionsById}. A deleted card is replaced by null, so that the positions of later cards stay the same.
+     *
+     * @throws IllegalValueException if the record is malformed or does not apply to {@code cards}.
+     */
+    void applyTo(List<Card> cards, LongIntHashMap positionsById, Deck deck) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case ADD_CARD:
+            Card added = toModelCard(deck);
+            if (added.getId() == Card.NO_ID || positionsById.containsKey(added.getId())) {
+                throw new IllegalValueException(String.format(MESSAGE_INAPPLICABLE_RECORD, type, added.getId()));
+            }
+            positionsById.put(added.getId(), cards.size());
+            cards.add(added);
+            break;
+        case EDIT_CARD:
+            Card edited = toModelCard(deck);
+            cards.set(positionOf(edited.getId(), positionsById), edited);
+            break;
+        case TAG_CARD:
+            int position = positionOf(require(id, "id"), positionsById);
+            cards.set(position, cards.get(position).buildCardWithtag(JsonAdaptedCard.toModelTag(tag)));
+            break;
+        case DELETE_CARD:
+            cards.set(positionOf(require(id, "id"), positionsById), null);
+            positionsById.remove(id);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INAPPLICABLE_RECORD, type, id));
+        }
+    }
+
+    private Card toModelCard(Deck deck) throws IllegalValueException {
+        Card modelCard = require(card, "card").toModelType();
+        return modelCard.isInDeck(deck) ? modelCard : modelCard.buildCardWithDeck(deck);
+    }
+
+    private int positionOf(long cardId, LongIntHashMap positionsById) throws IllegalValueException {
+        int position = positionsById.getOrDefault(cardId, -1);
+        if (position < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INAPPLICABLE_RECORD, type, cardId));
+        }
+        return position;
+    }
+
+    private static <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
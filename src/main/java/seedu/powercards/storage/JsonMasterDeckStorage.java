@@ -10,7 +10,6 @@ import java.util.logging.Logger;
 import seedu.powercards.commons.core.LogsCenter;
 import seedu.powercards.commons.exceptions.DataConversionException;
 import seedu.powercards.commons.exceptions.IllegalValueException;
-import seedu.powercards.commons.util.FileUtil;
 import seedu.powercards.commons.util.JsonUtil;
 import seedu.powercards.model.ReadOnlyMasterDeck;
 
@@ -72,8 +71,7 @@ public class JsonMasterDeckStorage implements MasterDeckStorage {
     public void saveMasterDeck(ReadOnlyMasterDeck masterDeck, Path filePath) throws IOException {
         requireNonNull(masterDeck);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMasterDeck(masterDeck), filePath);
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableMasterDeck(masterDeck), filePath);
     }
 
 }
@@ -1,7 +1,10 @@
 package seedu.powercards.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,7 +15,9 @@ import seedu.powercards.commons.exceptions.IllegalValueException;
 import seedu.powercards.model.MasterDeck;
 import seedu.powercards.model.ReadOnlyMasterDeck;
 import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.exceptions.DuplicateCardException;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.DeckRegistry;
 
 /**
  * An Immutable Deck that is serializable to JSON format.
@@ -24,16 +29,17 @@ class JsonSerializableMasterDeck {
     public static final String MESSAGE_DUPLICATE_DECK = "Deck list contains duplicate deck(s).";
     public static final String MESSAGE_MISSING_DECK = "Some cards exist without an existing deck.";
 
-    private final List<JsonAdaptedCard> cards = new ArrayList<>();
+    // Streamed one card record at a time, see JsonAdaptedCardList.
+    private final JsonAdaptedCardList cards;
     private final List<JsonAdaptedDeck> decks = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableMasterDeck} with the given cards.
      */
     @JsonCreator
-    public JsonSerializableMasterDeck(@JsonProperty("cards") List<JsonAdaptedCard> cards,
+    public JsonSerializableMasterDeck(@JsonProperty("cards") JsonAdaptedCardList cards,
                                       @JsonProperty("decks") List<JsonAdaptedDeck> decks) {
-        this.cards.addAll(cards);
+        this.cards = cards == null ? new JsonAdaptedCardList(Collections.emptyList()) : cards;
         this.decks.addAll(decks);
     }
 
@@ -43,40 +49,43 @@ class JsonSerializableMasterDeck {
      * @param source future changes to this will not affect the created {@code JsonSerializableMasterDeck}.
      */
     public JsonSerializableMasterDeck(ReadOnlyMasterDeck source) {
-        cards.addAll(source.getCardList().stream().map(JsonAdaptedCard::new).collect(Collectors.toList()));
+        cards = new JsonAdaptedCardList(List.copyOf(source.getCardList()));
         decks.addAll(source.getDeckList().stream().map(JsonAdaptedDeck::new).collect(Collectors.toList()));
     }
 
     /**
      * Converts this JSON MasterDeck into the model's {@code Deck} object.
+     * The cards are checked against the decks with a hash set and put into the master deck in one bulk insert.
+     * The decks in the deck list are the same instances as those of the cards.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public MasterDeck toModelType() throws IllegalValueException {
-        MasterDeck masterDeck = new MasterDeck();
-
+        DeckRegistry deckRegistry = cards.getDeckRegistry();
+        List<Deck> modelDecks = new ArrayList<>(decks.size());
+        Set<Deck> knownDecks = new HashSet<>();
         for (JsonAdaptedDeck jsonAdaptedDeck : decks) {
-            Deck deck = jsonAdaptedDeck.toModelType();
-            if (masterDeck.hasDeck(deck)) {
+            Deck deck = deckRegistry.intern(jsonAdaptedDeck.toModelType());
+            if (!knownDecks.add(deck)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_DECK);
             }
-            masterDeck.addDeck(deck);
+            modelDecks.add(deck);
         }
 
-        for (JsonAdaptedCard jsonAdaptedCard : cards) {
-            Card card = jsonAdaptedCard.toModelType();
-            if (masterDeck.hasCard(card)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
-            }
-
-            Deck currDeck = card.getDeck();
-            if (!masterDeck.hasDeck(currDeck)) {
+        List<Card> modelCards = cards.toModelType();
+        for (Card card : modelCards) {
+            if (!knownDecks.contains(card.getDeck())) {
                 throw new IllegalValueException(MESSAGE_MISSING_DECK);
             }
-
-            masterDeck.addCard(card);
         }
 
+        MasterDeck masterDeck = new MasterDeck();
+        masterDeck.setDecks(modelDecks);
+        try {
+            masterDeck.setCards(modelCards);
+        } catch (DuplicateCardException dce) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
+        }
         return masterDeck;
     }
 
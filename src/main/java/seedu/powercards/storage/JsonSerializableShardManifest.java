@@ -0,0 +1,236 @@
+package seedu.powercards.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.powercards.commons.exceptions.IllegalValueException;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+
+/**
+ * The manifest of a sharded master deck directory, serializable to json.
+ * Lists the decks in order, with the shard file holding each deck's cards and how many cards of each tag it
+ * holds, so that decks can be listed without reading their shards. The largest card id in each shard is listed
+ * too, so that ids of cards not read yet are not given to new cards. The counts describe the shard file alone,
+ * not the changes in its journal.
+ */
+class JsonSerializableShardManifest {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Shard manifest version %d is not supported.";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard manifest's %s field is missing!";
+    public static final String MESSAGE_INVALID_SHARD_FILE = "Shard file name %s is not a plain file name.";
+    public static final String MESSAGE_INVALID_TAG_COUNTS = "Shard %s has invalid tag counts.";
+
+    private final int formatVersion;
+    private final long nextShardId;
+    private final List<JsonAdaptedShard> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("formatVersion") int formatVersion,
+                                         @JsonProperty("nextShardId") long nextShardId,
+                                         @JsonProperty("shards") List<JsonAdaptedShard> shards) {
+        this.formatVersion = formatVersion;
+        this.nextShardId = nextShardId;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    /**
+     * Constructs a manifest of the current format version.
+     */
+    public JsonSerializableShardManifest(long nextShardId, List<JsonAdaptedShard> shards) {
+        this(FORMAT_VERSION, nextShardId, shards);
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public long getNextShardId() {
+        return nextShardId;
+    }
+
+    public List<JsonAdaptedShard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Checks that this manifest can be read by this version of the app.
+     *
+     * @throws IllegalValueException if the version is unsupported or a shard entry is invalid.
+     */
+    public void validate() throws IllegalValueException {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+        for (JsonAdaptedShard shard : shards) {
+            shard.toModelType();
+            shard.toFileDeck();
+            shard.toTagCounts();
+            shard.validateFile();
+        }
+    }
+
+    /**
+     * Jackson-friendly entry of one deck's shard in the manifest.
+     */
+    static class JsonAdaptedShard {
+        private final JsonAdaptedDeck deck;
+        // Absent unless the deck was renamed since its shard was written, see #renamedTo(Deck).
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final JsonAdaptedDeck fileDeck;
+        private final String file;
+        private final int cardCount;
+        private final Map<String, Integer> tagCounts;
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        private final long maxCardId;
+
+        /**
+         * Constructs a {@code JsonAdaptedShard} with the given details.
+         */
+        @JsonCreator
+        public JsonAdaptedShard(@JsonProperty("deck") JsonAdaptedDeck deck,
+                                @JsonProperty("fileDeck") JsonAdaptedDeck fileDeck, @JsonProperty("file") String file,
+                                @JsonProperty("cardCount") int cardCount,
+                                @JsonProperty("tagCounts") Map<String, Integer> tagCounts,
+                                @JsonProperty("maxCardId") Long maxCardId) {
+            this.deck = deck;
+            this.fileDeck = fileDeck;
+            this.file = file;
+            this.cardCount = cardCount;
+            this.tagCounts = tagCounts;
+            this.maxCardId = maxCardId == null ? Card.NO_ID : maxCardId;
+        }
+
+        /**
+         * Constructs the entry of the shard {@code file} holding {@code cards}, the cards of {@code deck}.
+         */
+        public JsonAdaptedShard(Deck deck, String file, List<Card> cards) {
+            this(new JsonAdaptedDeck(deck), null, file, cards.size(), countTags(cards),
+                    cards.stream().mapToLong(Card::getId).max().orElse(Card.NO_ID));
+        }
+
+        /**
+         * Returns the entry of this shard for {@code renamedDeck}, the new name of its deck, so that a deck can be
+         * renamed without rewriting its shard. The shard file still holds the deck under the name it was written
+         * with, and its cards are put in the renamed deck when read.
+         */
+        public JsonAdaptedShard renamedTo(Deck renamedDeck) {
+            return new JsonAdaptedShard(new JsonAdaptedDeck(renamedDeck), fileDeck != null ? fileDeck : deck, file,
+                    cardCount, tagCounts, maxCardId);
+        }
+
+        private static Map<String, Integer> countTags(List<Card> cards) {
+            int[] counts = new int[TagName.values().length];
+            for (Card card : cards) {
+                counts[card.getTag().tagName.ordinal()]++;
+            }
+            Map<String, Integer> tagCounts = new LinkedHashMap<>();
+            for (TagName tagName : TagName.values()) {
+                tagCounts.put(tagName.name(), counts[tagName.ordinal()]);
+            }
+            return tagCounts;
+        }
+
+        public JsonAdaptedDeck getDeck() {
+            return deck;
+        }
+
+        public JsonAdaptedDeck getFileDeck() {
+            return fileDeck;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public int getCardCount() {
+            return cardCount;
+        }
+
+        public Map<String, Integer> getTagCounts() {
+            return tagCounts;
+        }
+
+        public long getMaxCardId() {
+            return maxCardId;
+        }
+
+        /**
+         * Returns the number of cards of each tag in the shard, indexed by {@code TagName} ordinal,
+         * or null if the entry does not record them.
+         *
+         * @throws IllegalValueException if the counts are invalid or do not add up to the card count.
+         */
+        public int[] toTagCounts() throws IllegalValueException {
+            if (tagCounts == null) {
+                return null;
+            }
+            int[] counts = new int[TagName.values().length];
+            for (Map.Entry<String, Integer> tagCount : tagCounts.entrySet()) {
+                TagName tagName;
+                try {
+                    tagName = TagName.valueOf(tagCount.getKey());
+                } catch (IllegalArgumentException iae) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                if (tagCount.getValue() == null || tagCount.getValue() < 0) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_TAG_COUNTS, file));
+                }
+                counts[tagName.ordinal()] = tagCount.getValue();
+            }
+            if (Arrays.stream(counts).sum() != cardCount) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_TAG_COUNTS, file));
+            }
+            return counts;
+        }
+
+        /**
+         * Returns the deck this shard holds.
+         *
+         * @throws IllegalValueException if the deck is missing or invalid.
+         */
+        public Deck toModelType() throws IllegalValueException {
+            if (deck == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "deck"));
+            }
+            return deck.toModelType();
+        }
+
+        /**
+         * Returns the deck as named in the shard file, which differs from {@link #toModelType()} if the deck was
+         * renamed since the shard was written.
+         *
+         * @throws IllegalValueException if the deck is missing or invalid.
+         */
+        public Deck toFileDeck() throws IllegalValueException {
+            return fileDeck != null ? fileDeck.toModelType() : toModelType();
+        }
+
+        /**
+         * Checks that the shard file is a plain file name, so that a manifest cannot refer outside its directory.
+         */
+        private void validateFile() throws IllegalValueException {
+            if (file == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "file"));
+            }
+            if (file.isEmpty() || file.contains("/") || file.contains("\\") || file.startsWith(".")) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_FILE, file));
+            }
+        }
+    }
+}
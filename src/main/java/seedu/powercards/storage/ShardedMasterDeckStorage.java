@@ -0,0 +1,897 @@
+package seedu.powercards.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.powercards.commons.core.LogsCenter;
+import seedu.powercards.commons.exceptions.DataConversionException;
+import seedu.powercards.commons.exceptions.IllegalValueException;
+import seedu.powercards.commons.util.FileUtil;
+import seedu.powercards.commons.util.JsonUtil;
+import seedu.powercards.commons.util.LongIntHashMap;
+import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.ReadOnlyMasterDeck;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.exceptions.DuplicateCardException;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
+import seedu.powercards.model.deck.exceptions.DuplicateDeckException;
+import seedu.powercards.storage.JsonSerializableShardManifest.JsonAdaptedShard;
+
+/**
+ * A class to access MasterDeck data stored as a directory of per-deck shards on the hard disk.
+ *
+ * The directory holds a small json manifest listing the decks in order, and one file per deck in the binary
+ * format of {@link BinaryMasterDeckFormat}, each with an append-only journal of the changes to the deck since the
+ * file was written. A save only touches the decks whose cards changed since the last save, as told by their
+ * revisions, see {@link ReadOnlyMasterDeck#getDeckRevision(Deck)}. The changes to each such deck are appended to its
+ * journal as one compact json line per added, edited, tagged or deleted card, see {@link JsonAdaptedJournalRecord}.
+ * A renamed deck keeps its shard and journal, and only its entry in the manifest is renamed.
+ *
+ * Once the journal of a shard holds {@link #DEFAULT_COMPACTION_THRESHOLD} records, the shard is compacted in the
+ * background: its cards are written to a new file, any records appended meanwhile are moved to the journal of the
+ * new file, the manifest is replaced with the counts of the new file, and only then is the old file deleted with
+ * its journal. A deck whose changes cannot be journaled, or that is new, is written to a new file in the same way
+ * by the save itself. A save or compaction interrupted at any point thus leaves the manifest listing the shards it
+ * was written with, so the deck names, card counts, tag counts and largest card ids in the manifest always match
+ * its shards.
+ *
+ * Reading loads the shards in parallel, replays their journals, and merges them into one master deck, with the
+ * cards grouped by deck in deck order, each deck keeping the order of its own cards.
+ *
+ * A lazy storage reads only the manifest of its own directory, leaving the cards of each deck to be read from its
+ * shard when the deck is first opened, see {@link MasterDeck#loadDeck(Deck)}. Decks whose shards have journals are
+ * read up front, as the counts in the manifest leave out their changes. Decks whose cards are not loaded keep their
+ * shards as they are when saving.
+ *
+ * Saving to any other path writes a plain json file of every deck, for exporting, and any other path is read as a
+ * single binary or json file, or as a sharded directory if it is one.
+ */
+public class ShardedMasterDeckStorage implements MasterDeckStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_FILE_PREFIX = "deck-";
+    public static final String SHARD_FILE_SUFFIX = ".bin";
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String SHARD_DIRECTORY_SUFFIX = ".decks";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_SHARD_MISMATCH = "Shard %s does not hold exactly the deck %s.";
+    public static final String MESSAGE_DECK_NOT_STORED = "Deck %s is not loaded and has no shard in %s.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedMasterDeckStorage.class);
+
+    private final Path directoryPath;
+    private final MasterDeckStorage legacyStorage;
+    private final boolean isLazy;
+    private final int compactionThreshold;
+    private final BinaryMasterDeckStorage singleFileStorage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "masterdeck-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // What the directory currently holds. Null until it has been read or fully written.
+    private Map<Deck, JsonAdaptedShard> shardEntries;
+    private long nextShardId;
+    // The revisions of the decks whose shards the directory holds, used to tell which decks a save needs to write.
+    private Map<Deck, Long> persistedRevisions;
+    // The cards that each shard file and its journal hold, and the number of records in the journal, by shard file,
+    // for the shards read or written by this storage.
+    private final Map<String, List<Card>> persistedCardsByFile = new HashMap<>();
+    private final Map<String, Integer> journalRecordCounts = new HashMap<>();
+    private final Set<String> compactingFiles = new HashSet<>();
+    private Future<?> lastCompaction;
+    private boolean hasDeletedUnlistedShards;
+
+    /**
+     * Creates a {@code ShardedMasterDeckStorage} for the shard directory at {@code directoryPath}, which reads
+     * every shard when reading.
+     */
+    public ShardedMasterDeckStorage(Path directoryPath) {
+        this(directoryPath, null, false);
+    }
+
+    /**
+     * Creates a {@code ShardedMasterDeckStorage} for the shard directory at {@code directoryPath}.
+     * Until the directory has a manifest, its master deck is read from {@code legacyStorage}, if not null, and is
+     * split into shards by the next save. A lazy storage leaves the cards of each deck unread until it is opened.
+     */
+    public ShardedMasterDeckStorage(Path directoryPath, MasterDeckStorage legacyStorage, boolean isLazy) {
+        this(directoryPath, legacyStorage, isLazy, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #ShardedMasterDeckStorage(Path, MasterDeckStorage, boolean)}, but compacts the shard of a
+     * deck once its journal holds {@code compactionThreshold} records. A save that would append that many records
+     * to one journal at once rewrites the shard instead.
+     */
+    public ShardedMasterDeckStorage(Path directoryPath, MasterDeckStorage legacyStorage, boolean isLazy,
+                                    int compactionThreshold) {
+        requireNonNull(directoryPath);
+        this.directoryPath = directoryPath;
+        this.legacyStorage = legacyStorage;
+        this.isLazy = isLazy;
+        this.compactionThreshold = compactionThreshold;
+        this.singleFileStorage = new BinaryMasterDeckStorage(directoryPath);
+    }
+
+    /**
+     * Returns the shard directory that replaces the single master deck file at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getMasterDeckFilePath() {
+        return directoryPath;
+    }
+
+    public Path getManifestFilePath() {
+        return directoryPath.resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Optional<ReadOnlyMasterDeck> readMasterDeck() throws DataConversionException, IOException {
+        return readMasterDeck(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readMasterDeck()}.
+     * A path that is not a sharded directory is read as a single binary or json file. Only this storage's own
+     * directory is read lazily.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or any shard or journal read is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyMasterDeck> readMasterDeck(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        boolean isOwnDirectory = filePath.equals(directoryPath);
+        if (isOwnDirectory && legacyStorage != null && !FileUtil.isFileExists(getManifestFilePath())) {
+            logger.info("No shard manifest in " + directoryPath + ", reading "
+                    + legacyStorage.getMasterDeckFilePath() + " instead");
+            return legacyStorage.readMasterDeck();
+        }
+        if (!Files.isDirectory(filePath)) {
+            return singleFileStorage.readMasterDeck(filePath);
+        }
+        Path manifestPath = filePath.resolve(MANIFEST_FILE_NAME);
+        if (!FileUtil.isFileExists(manifestPath)) {
+            return Optional.empty();
+        }
+
+        Optional<JsonSerializableShardManifest> manifest = JsonUtil.readJsonFile(
+                manifestPath, JsonSerializableShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            manifest.get().validate();
+            boolean isLazyRead = isLazy && isOwnDirectory;
+            List<JsonAdaptedShard> entries = manifest.get().getShards();
+            List<JsonAdaptedShard> entriesToRead = new ArrayList<>();
+            for (JsonAdaptedShard entry : entries) {
+                if (!isLazyRead || !isLeftUnloaded(filePath, entry)) {
+                    entriesToRead.add(entry);
+                }
+            }
+            Iterator<BinaryMasterDeckFormat.Records> shards = readShards(filePath, entriesToRead).iterator();
+
+            List<Deck> decks = new ArrayList<>(entries.size());
+            List<Card> cards = new ArrayList<>();
+            Map<Deck, int[]> unloadedDecks = new LinkedHashMap<>();
+            Map<String, ShardContent> contentsByFile = new HashMap<>();
+            long maxUnloadedCardId = Card.NO_ID;
+            for (JsonAdaptedShard entry : entries) {
+                Deck deck = entry.toModelType();
+                if (isLazyRead && isLeftUnloaded(filePath, entry)) {
+                    decks.add(deck);
+                    unloadedDecks.put(deck, entry.toTagCounts());
+                    maxUnloadedCardId = Math.max(maxUnloadedCardId, entry.getMaxCardId());
+                    continue;
+                }
+                BinaryMasterDeckFormat.Records shard = shards.next();
+                checkShard(entry, shard);
+                ShardContent content = replayJournal(filePath, entry, deck, shard);
+                contentsByFile.put(entry.getFile(), content);
+                decks.add(content.cards.isEmpty() ? deck : content.cards.get(0).getDeck());
+                cards.addAll(content.cards);
+            }
+            MasterDeck masterDeck = toMasterDeck(decks, cards);
+            if (isLazyRead) {
+                masterDeck.setUnloadedDecks(unloadedDecks, this::loadShard);
+                masterDeck.reserveCardIds(maxUnloadedCardId);
+            }
+
+            if (isOwnDirectory) {
+                remember(entries, masterDeck, manifest.get().getNextShardId(), contentsByFile);
+            }
+            return Optional.of(masterDeck);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns true if a lazy read leaves the cards of the shard of {@code entry} in {@code directory} unread, which
+     * needs the manifest to count its cards, and the shard to have no journal, whose changes the counts leave out.
+     */
+    private static boolean isLeftUnloaded(Path directory, JsonAdaptedShard entry) throws IllegalValueException,
+            IOException {
+        Path journalPath = directory.resolve(entry.getFile() + JOURNAL_FILE_SUFFIX);
+        return entry.toTagCounts() != null && (!FileUtil.isFileExists(journalPath) || Files.size(journalPath) == 0);
+    }
+
+    /**
+     * Reads the shards listed in {@code entries} in parallel, one task per shard, and returns them in order.
+     */
+    private static List<BinaryMasterDeckFormat.Records> readShards(Path directory, List<JsonAdaptedShard> entries)
+            throws DataConversionException, IOException {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        int threadCount = Math.min(entries.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService readers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "masterdeck-shard-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<BinaryMasterDeckFormat.Records>> pending = new ArrayList<>(entries.size());
+            for (JsonAdaptedShard entry : entries) {
+                Path shardPath = directory.resolve(entry.getFile());
+                pending.add(readers.submit(() -> BinaryMasterDeckFormat.readRecords(shardPath)));
+            }
+
+            List<BinaryMasterDeckFormat.Records> shards = new ArrayList<>(entries.size());
+            for (Future<BinaryMasterDeckFormat.Records> shard : pending) {
+                shards.add(shard.get());
+            }
+            return shards;
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading shards of " + directory, ie);
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks that {@code shard}, read from the file of {@code entry}, holds the deck the file was written with.
+     */
+    private static void checkShard(JsonAdaptedShard entry, BinaryMasterDeckFormat.Records shard)
+            throws IllegalValueException {
+        Deck fileDeck = entry.toFileDeck();
+        if (!shard.decks.equals(List.of(fileDeck))) {
+            throw new IllegalValueException(String.format(MESSAGE_SHARD_MISMATCH, entry.getFile(), fileDeck));
+        }
+    }
+
+    /**
+     * The cards of a deck as read from its shard and journal, and the number of records in the journal.
+     */
+    private static class ShardContent {
+        private final List<Card> cards;
+        private final int journalRecordCount;
+
+        ShardContent(List<Card> cards, int journalRecordCount) {
+            this.cards = cards;
+            this.journalRecordCount = journalRecordCount;
+        }
+    }
+
+    /**
+     * Returns the cards of {@code shard}, read from the file of {@code entry} in {@code directory}, in
+     * {@code deck}, with the records of its journal replayed on top of them.
+     */
+    private static ShardContent replayJournal(Path directory, JsonAdaptedShard entry, Deck deck,
+            BinaryMasterDeckFormat.Records shard) throws IllegalValueException, IOException, DataConversionException {
+        List<Card> cards = shard.cards;
+        if (!shard.decks.get(0).equals(deck)) {
+            cards = new ArrayList<>(cards.size());
+            for (Card card : shard.cards) {
+                cards.add(card.buildCardWithDeck(deck));
+            }
+        }
+        List<JsonAdaptedJournalRecord> records = readJournal(directory.resolve(entry.getFile() + JOURNAL_FILE_SUFFIX));
+        if (records.isEmpty()) {
+            return new ShardContent(cards, 0);
+        }
+
+        cards = new ArrayList<>(cards);
+        LongIntHashMap positionsById = new LongIntHashMap(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            positionsById.put(cards.get(i).getId(), i);
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            record.applyTo(cards, positionsById, deck);
+        }
+        cards.removeIf(Objects::isNull); // the cards deleted by the journal
+        return new ShardContent(cards, records.size());
+    }
+
+    /**
+     * Returns the records in the journal at {@code journalPath}, in the order they were appended, or none if there
+     * is no journal. A torn last line, left by a crash during an append, is ignored and dropped from the journal,
+     * so that later records are not appended to it.
+     */
+    private static List<JsonAdaptedJournalRecord> readJournal(Path journalPath)
+            throws IOException, DataConversionException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return List.of();
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                records.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Dropping incomplete last record in " + journalPath + ": " + e.getMessage());
+                FileUtil.writeToFileAtomically(journalPath, joinLines(lines.subList(0, i)));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Reads the cards of {@code deck} from its shard and journal in this storage's directory.
+     */
+    private ShardContent readShard(Deck deck) throws IOException, DataConversionException {
+        JsonAdaptedShard entry = shardEntries == null ? null : shardEntries.get(deck);
+        if (entry == null) {
+            throw new IOException(String.format(MESSAGE_DECK_NOT_STORED, deck, directoryPath));
+        }
+        BinaryMasterDeckFormat.Records shard = BinaryMasterDeckFormat.readRecords(
+                directoryPath.resolve(entry.getFile()));
+        try {
+            checkShard(entry, shard);
+            return replayJournal(directoryPath, entry, deck, shard);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Loads the cards of {@code deck} for a master deck read lazily from this storage.
+     */
+    private synchronized List<Card> loadShard(Deck deck) {
+        try {
+            ShardContent content = readShard(deck);
+            String file = shardEntries.get(deck).getFile();
+            persistedCardsByFile.put(file, content.cards);
+            journalRecordCounts.put(file, content.journalRecordCount);
+            logger.fine("Loaded " + content.cards.size() + " cards of deck " + deck + " from " + directoryPath);
+            return Collections.unmodifiableList(content.cards);
+        } catch (IOException | DataConversionException e) {
+            throw new DeckLoadException(deck, e);
+        }
+    }
+
+    private static MasterDeck toMasterDeck(List<Deck> decks, List<Card> cards) throws IllegalValueException {
+        MasterDeck masterDeck = new MasterDeck();
+        try {
+            masterDeck.setDecks(decks);
+        } catch (DuplicateDeckException dde) {
+            throw new IllegalValueException(JsonSerializableMasterDeck.MESSAGE_DUPLICATE_DECK);
+        }
+        try {
+            masterDeck.setCards(cards);
+        } catch (DuplicateCardException dce) {
+            throw new IllegalValueException(JsonSerializableMasterDeck.MESSAGE_DUPLICATE_CARD);
+        }
+        return masterDeck;
+    }
+
+    /**
+     * Remembers that the directory holds {@code masterDeck} as read from the shards of {@code entries}, listed in
+     * deck order, including the decks whose cards are not loaded yet, whose revisions stay the same when loaded.
+     * The shards that were read are described by {@code contentsByFile}.
+     */
+    private void remember(List<JsonAdaptedShard> entries, MasterDeck masterDeck, long nextShardId,
+                          Map<String, ShardContent> contentsByFile) {
+        List<Deck> decks = masterDeck.getDeckList();
+        shardEntries = new LinkedHashMap<>();
+        persistedRevisions = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            shardEntries.put(decks.get(i), entries.get(i));
+            persistedRevisions.put(decks.get(i), masterDeck.getDeckRevision(decks.get(i)));
+        }
+        persistedCardsByFile.clear();
+        journalRecordCounts.clear();
+        for (Map.Entry<String, ShardContent> content : contentsByFile.entrySet()) {
+            persistedCardsByFile.put(content.getKey(), content.getValue().cards);
+            journalRecordCounts.put(content.getKey(), content.getValue().journalRecordCount);
+        }
+        this.nextShardId = nextShardId;
+    }
+
+    @Override
+    public void saveMasterDeck(ReadOnlyMasterDeck masterDeck) throws IOException {
+        saveMasterDeck(masterDeck, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveMasterDeck(ReadOnlyMasterDeck)}.
+     * Saving to any path other than this storage's own directory writes a plain json file of every deck,
+     * reading the cards of decks that are not loaded from their shards.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveMasterDeck(ReadOnlyMasterDeck masterDeck, Path filePath) throws IOException {
+        requireNonNull(masterDeck);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(directoryPath)) {
+            JsonUtil.saveJsonFileAtomically(new JsonSerializableMasterDeck(withAllDecksLoaded(masterDeck)), filePath);
+            return;
+        }
+
+        if (shardEntries == null) {
+            shardEntries = new LinkedHashMap<>();
+            persistedRevisions = new HashMap<>();
+            nextShardId = 0;
+        }
+        Files.createDirectories(directoryPath);
+
+        // The shards of decks no longer in the master deck, one of which a renamed deck may keep
+        Set<Deck> currentDecks = new HashSet<>(masterDeck.getDeckList());
+        List<JsonAdaptedShard> removedEntries = new ArrayList<>();
+        shardEntries.forEach((deck, entry) -> {
+            if (!currentDecks.contains(deck)) {
+                removedEntries.add(entry);
+            }
+        });
+
+        Map<Deck, List<Card>> untrackedCardsByDeck = null; // grouped only if needed
+        Map<Deck, JsonAdaptedShard> newEntries = new LinkedHashMap<>();
+        Map<Deck, Long> savedRevisions = new HashMap<>();
+        Map<String, List<Card>> writtenFiles = new LinkedHashMap<>();
+        int journaledCount = 0;
+        try {
+            for (Deck deck : masterDeck.getDeckList()) {
+                JsonAdaptedShard entry = shardEntries.get(deck);
+                if (!masterDeck.isDeckLoaded(deck)) {
+                    if (entry == null) {
+                        throw new IOException(String.format(MESSAGE_DECK_NOT_STORED, deck, directoryPath));
+                    }
+                    newEntries.put(deck, entry);
+                    continue;
+                }
+                long revision = masterDeck.getDeckRevision(deck);
+                boolean isPersisted = entry != null && revision != ReadOnlyMasterDeck.UNTRACKED_REVISION
+                        && persistedRevisions.getOrDefault(deck, ReadOnlyMasterDeck.UNTRACKED_REVISION) == revision;
+                if (isPersisted) {
+                    newEntries.put(deck, entry);
+                    continue;
+                }
+
+                List<Card> cards;
+                if (revision != ReadOnlyMasterDeck.UNTRACKED_REVISION) {
+                    cards = List.copyOf(masterDeck.getCardsInDeck(deck));
+                    if (entry == null) {
+                        entry = claimRenamedEntry(removedEntries, deck, cards);
+                    }
+                    if (entry != null && journalChanges(entry, cards)) {
+                        newEntries.put(deck, entry);
+                        savedRevisions.put(deck, revision);
+                        journaledCount++;
+                        continue;
+                    }
+                } else {
+                    if (untrackedCardsByDeck == null) {
+                        untrackedCardsByDeck = groupByDeck(masterDeck);
+                    }
+                    cards = untrackedCardsByDeck.get(deck);
+                }
+                // Never written over in place, as the manifest lists the old file until it is replaced
+                String file = SHARD_FILE_PREFIX + nextShardId++ + SHARD_FILE_SUFFIX;
+                writtenFiles.put(file, cards);
+                BinaryMasterDeckFormat.write(directoryPath.resolve(file), cards, List.of(deck));
+                newEntries.put(deck, new JsonAdaptedShard(deck, file, cards));
+                savedRevisions.put(deck, revision);
+            }
+
+            // Until the manifest is replaced, it still lists the old shards, none of which have been rewritten.
+            if (isManifestChanged(newEntries)) {
+                JsonUtil.saveJsonFileAtomically(new JsonSerializableShardManifest(nextShardId,
+                        new ArrayList<>(newEntries.values())), getManifestFilePath());
+            }
+        } catch (IOException ioe) {
+            for (String writtenFile : writtenFiles.keySet()) {
+                Files.deleteIfExists(directoryPath.resolve(writtenFile));
+            }
+            throw ioe;
+        }
+        Map<Deck, JsonAdaptedShard> oldEntries = shardEntries;
+        shardEntries = newEntries;
+        persistedRevisions.keySet().retainAll(newEntries.keySet());
+        persistedRevisions.putAll(savedRevisions);
+        for (Map.Entry<String, List<Card>> written : writtenFiles.entrySet()) {
+            persistedCardsByFile.put(written.getKey(), written.getValue());
+            journalRecordCounts.put(written.getKey(), 0);
+        }
+
+        Set<String> listedFiles = new HashSet<>();
+        newEntries.values().forEach(entry -> listedFiles.add(entry.getFile()));
+        for (JsonAdaptedShard oldEntry : oldEntries.values()) {
+            if (!listedFiles.contains(oldEntry.getFile())) {
+                deleteShard(oldEntry.getFile());
+            }
+        }
+        if (!hasDeletedUnlistedShards) {
+            deleteUnlistedShards(listedFiles);
+            hasDeletedUnlistedShards = true;
+        }
+        compactLongJournals();
+        logger.fine("Rewrote " + writtenFiles.size() + " and journaled " + journaledCount + " of "
+                + newEntries.size() + " deck shards in " + directoryPath);
+    }
+
+    /**
+     * Returns the entry of the shard in {@code removedEntries} that holds the cards of {@code deck} under its old
+     * name, renamed to {@code deck}, and removes it from {@code removedEntries}. A deck is taken to be renamed if
+     * its first card is the first card last saved in such a shard. Returns null if there is no such shard.
+     */
+    private JsonAdaptedShard claimRenamedEntry(List<JsonAdaptedShard> removedEntries, Deck deck, List<Card> cards) {
+        if (cards.isEmpty()) {
+            return null;
+        }
+        Iterator<JsonAdaptedShard> candidates = removedEntries.iterator();
+        while (candidates.hasNext()) {
+            JsonAdaptedShard candidate = candidates.next();
+            List<Card> persistedCards = persistedCardsByFile.get(candidate.getFile());
+            if (persistedCards != null && !persistedCards.isEmpty()
+                    && persistedCards.get(0).getId() == cards.get(0).getId()) {
+                candidates.remove();
+                return candidate.renamedTo(deck);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Appends the records that turn the cards last saved in the shard of {@code entry} into {@code cards} to the
+     * journal of the shard. Returns false, appending nothing, if the shard has to be rewritten instead: if the
+     * cards last saved in it are not known, if the change cannot be recorded, or if it takes as many records as
+     * would have the shard compacted.
+     */
+    private boolean journalChanges(JsonAdaptedShard entry, List<Card> cards) throws IOException {
+        String file = entry.getFile();
+        List<Card> persistedCards = persistedCardsByFile.get(file);
+        if (persistedCards == null) {
+            return false;
+        }
+        List<JsonAdaptedJournalRecord> records = toJournalRecords(persistedCards, cards);
+        if (records == null || records.size() >= compactionThreshold) {
+            return false;
+        }
+
+        if (!records.isEmpty()) {
+            StringBuilder lines = new StringBuilder();
+            for (JsonAdaptedJournalRecord record : records) {
+                lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+            }
+            appendToFile(directoryPath.resolve(file + JOURNAL_FILE_SUFFIX), lines.toString());
+        }
+        persistedCardsByFile.put(file, cards);
+        journalRecordCounts.merge(file, records.size(), Integer::sum);
+        return true;
+    }
+
+    /**
+     * Returns the journal records that turn {@code persistedCards} into {@code cards}, the cards of the same deck.
+     * Cards are matched by id. Records of deleted cards come first, then those of edited cards, then those of added
+     * cards, which replaying appends to the deck. Returns null if replaying could not put the cards in their order,
+     * or if a card has no id or shares it with another card.
+     */
+    private static List<JsonAdaptedJournalRecord> toJournalRecords(List<Card> persistedCards, List<Card> cards) {
+        LongIntHashMap persistedPositions = new LongIntHashMap(persistedCards.size());
+        for (int i = 0; i < persistedCards.size(); i++) {
+            long id = persistedCards.get(i).getId();
+            if (id == Card.NO_ID || persistedPositions.containsKey(id)) {
+                return null;
+            }
+            persistedPositions.put(id, i);
+        }
+
+        boolean[] isKept = new boolean[persistedCards.size()];
+        List<JsonAdaptedJournalRecord> edits = new ArrayList<>();
+        List<JsonAdaptedJournalRecord> additions = new ArrayList<>();
+        int lastPosition = -1;
+        for (Card card : cards) {
+            if (card.getId() == Card.NO_ID) {
+                return null;
+            }
+            int position = persistedPositions.getOrDefault(card.getId(), -1);
+            if (position < 0) {
+                additions.add(JsonAdaptedJournalRecord.addCard(card));
+                continue;
+            }
+            if (!additions.isEmpty() || position <= lastPosition || isKept[position]) {
+                return null;
+            }
+            lastPosition = position;
+            isKept[position] = true;
+            Card persistedCard = persistedCards.get(position);
+            if (!isSavedAlike(persistedCard, card)) {
+                edits.add(JsonAdaptedJournalRecord.editCard(persistedCard, card));
+            }
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (int i = 0; i < persistedCards.size(); i++) {
+            if (!isKept[i]) {
+                records.add(JsonAdaptedJournalRecord.deleteCard(persistedCards.get(i)));
+            }
+        }
+        records.addAll(edits);
+        records.addAll(additions);
+        return records;
+    }
+
+    /**
+     * Returns true if {@code card} is saved the same as {@code other}, a card of the same deck.
+     */
+    private static boolean isSavedAlike(Card card, Card other) {
+        return card == other || card.getQuestion().equals(other.getQuestion())
+                && card.getAnswer().equals(other.getAnswer())
+                && card.getTag().equals(other.getTag())
+                && card.getSchedule().equals(other.getSchedule());
+    }
+
+    /**
+     * Appends {@code content} to {@code file}, creating it if needed, and forces it to disk. If the append fails,
+     * the file is cut back to its old length, so that no partly written line is left for later lines to follow.
+     */
+    private static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long oldLength = channel.size();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+                long position = oldLength;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                channel.force(false);
+            } catch (IOException ioe) {
+                channel.truncate(oldLength);
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code newEntries} differ from the entries of the manifest, in deck order.
+     */
+    private boolean isManifestChanged(Map<Deck, JsonAdaptedShard> newEntries) {
+        if (newEntries.size() != shardEntries.size() || !FileUtil.isFileExists(getManifestFilePath())) {
+            return true;
+        }
+        Iterator<Map.Entry<Deck, JsonAdaptedShard>> oldEntries = shardEntries.entrySet().iterator();
+        for (Map.Entry<Deck, JsonAdaptedShard> newEntry : newEntries.entrySet()) {
+            Map.Entry<Deck, JsonAdaptedShard> oldEntry = oldEntries.next();
+            if (!oldEntry.getKey().equals(newEntry.getKey()) || oldEntry.getValue() != newEntry.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts compacting, in the background, the shards of loaded decks whose journals have reached the compaction
+     * threshold. The next shard id is taken for each compacted shard now, so that no save writes to the same file.
+     */
+    private void compactLongJournals() {
+        for (Map.Entry<Deck, JsonAdaptedShard> entry : shardEntries.entrySet()) {
+            String file = entry.getValue().getFile();
+            List<Card> cards = persistedCardsByFile.get(file);
+            int recordCount = journalRecordCounts.getOrDefault(file, 0);
+            if (cards == null || recordCount < compactionThreshold || compactingFiles.contains(file)) {
+                continue;
+            }
+            Deck deck = entry.getKey();
+            String compactedFile = SHARD_FILE_PREFIX + nextShardId++ + SHARD_FILE_SUFFIX;
+            compactingFiles.add(file);
+            lastCompaction = compactor.submit(() -> compact(deck, file, compactedFile, cards, recordCount));
+        }
+    }
+
+    /**
+     * Writes {@code cards}, the cards of {@code deck} as saved in {@code file} and the first {@code recordCount}
+     * records of its journal, to {@code compactedFile}, which then replaces {@code file} in the manifest with the
+     * later records of the journal, if any, as its journal. Gives up if {@code file} no longer holds the deck by
+     * then. Runs on the background compactor thread.
+     */
+    private void compact(Deck deck, String file, String compactedFile, List<Card> cards, int recordCount) {
+        Path compactedPath = directoryPath.resolve(compactedFile);
+        try {
+            BinaryMasterDeckFormat.write(compactedPath, cards, List.of(deck));
+            synchronized (this) {
+                JsonAdaptedShard entry = shardEntries == null ? null : shardEntries.get(deck);
+                if (entry == null || !entry.getFile().equals(file)) {
+                    logger.fine("Gave up compacting " + file + ", as it no longer holds deck " + deck);
+                    deleteShard(compactedFile);
+                    return;
+                }
+
+                List<String> lines = Files.readAllLines(directoryPath.resolve(file + JOURNAL_FILE_SUFFIX),
+                        StandardCharsets.UTF_8);
+                List<String> laterLines = lines.subList(Math.min(recordCount, lines.size()), lines.size());
+                if (!laterLines.isEmpty()) {
+                    FileUtil.writeToFileAtomically(directoryPath.resolve(compactedFile + JOURNAL_FILE_SUFFIX),
+                            joinLines(laterLines));
+                }
+                Map<Deck, JsonAdaptedShard> entries = new LinkedHashMap<>(shardEntries);
+                entries.put(deck, new JsonAdaptedShard(deck, compactedFile, cards));
+                JsonUtil.saveJsonFileAtomically(new JsonSerializableShardManifest(nextShardId,
+                        new ArrayList<>(entries.values())), getManifestFilePath());
+
+                shardEntries = entries;
+                persistedCardsByFile.put(compactedFile, persistedCardsByFile.get(file));
+                journalRecordCounts.put(compactedFile, laterLines.size());
+                deleteShard(file);
+                logger.fine("Compacted " + recordCount + " journal records of deck " + deck + " into "
+                        + compactedFile);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact shard " + file + " of deck " + deck + ": " + ioe.getMessage());
+            synchronized (this) {
+                if (shardEntries.values().stream().noneMatch(entry -> entry.getFile().equals(compactedFile))) {
+                    try {
+                        deleteShard(compactedFile);
+                    } catch (IOException e) {
+                        logger.warning("Failed to delete shard " + compactedFile + ": " + e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            synchronized (this) {
+                compactingFiles.remove(file);
+            }
+        }
+    }
+
+    /**
+     * Blocks until the last compaction started has finished. Used by tests.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        Future<?> compaction;
+        synchronized (this) {
+            compaction = lastCompaction;
+        }
+        if (compaction != null) {
+            compaction.get();
+        }
+    }
+
+    /**
+     * Deletes the shard {@code file} and its journal, and forgets what they held.
+     */
+    private void deleteShard(String file) throws IOException {
+        Files.deleteIfExists(directoryPath.resolve(file));
+        Files.deleteIfExists(directoryPath.resolve(file + JOURNAL_FILE_SUFFIX));
+        persistedCardsByFile.remove(file);
+        journalRecordCounts.remove(file);
+    }
+
+    private static String joinLines(List<String> lines) {
+        StringBuilder joined = new StringBuilder();
+        for (String line : lines) {
+            joined.append(line).append(System.lineSeparator());
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Returns {@code masterDeck} with the cards of any decks that are not loaded read from their shards.
+     */
+    private ReadOnlyMasterDeck withAllDecksLoaded(ReadOnlyMasterDeck masterDeck) throws IOException {
+        List<Card> cards = new ArrayList<>(masterDeck.getCardList());
+        boolean hasUnloadedDecks = false;
+        for (Deck deck : masterDeck.getDeckList()) {
+            if (masterDeck.isDeckLoaded(deck)) {
+                continue;
+            }
+            hasUnloadedDecks = true;
+            try {
+                cards.addAll(readShard(deck).cards);
+            } catch (DataConversionException dce) {
+                throw new IOException(dce);
+            }
+        }
+        if (!hasUnloadedDecks) {
+            return masterDeck;
+        }
+
+        MasterDeck allDecks = new MasterDeck();
+        allDecks.setDecks(masterDeck.getDeckList());
+        allDecks.setCards(cards);
+        return allDecks;
+    }
+
+    /**
+     * Returns the cards of {@code masterDeck} grouped by deck, in deck order and then card order, for a master deck
+     * that does not track the revisions of its decks.
+     *
+     * @throws IOException if a card is in a deck that is not in the master deck's deck list.
+     */
+    private static Map<Deck, List<Card>> groupByDeck(ReadOnlyMasterDeck masterDeck) throws IOException {
+        Map<Deck, List<Card>> cardsByDeck = new LinkedHashMap<>();
+        for (Deck deck : masterDeck.getDeckList()) {
+            cardsByDeck.put(deck, new ArrayList<>());
+        }
+        for (Card card : masterDeck.getCardList()) {
+            List<Card> cards = cardsByDeck.get(card.getDeck());
+            if (cards == null) {
+                throw new IOException(JsonSerializableMasterDeck.MESSAGE_MISSING_DECK);
+            }
+            cards.add(card);
+        }
+        return cardsByDeck;
+    }
+
+    /**
+     * Deletes shard files and journals in the directory that the manifest does not list, such as those left behind
+     * by a save or compaction that was interrupted before it replaced the manifest, or by data that was overwritten
+     * without being read.
+     */
+    private void deleteUnlistedShards(Set<String> listedFiles) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath, SHARD_FILE_PREFIX + "*{"
+                + SHARD_FILE_SUFFIX + "," + SHARD_FILE_SUFFIX + JOURNAL_FILE_SUFFIX + "}")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String shardFile = fileName.endsWith(JOURNAL_FILE_SUFFIX)
+                        ? fileName.substring(0, fileName.length() - JOURNAL_FILE_SUFFIX.length())
+                        : fileName;
+                if (!listedFiles.contains(shardFile)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.powercards.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.powercards.commons.core.LogsCenter;
+import seedu.powercards.commons.exceptions.DataConversionException;
+import seedu.powercards.commons.util.StringUtil;
+import seedu.powercards.model.ReadOnlyMasterDeck;
+import seedu.powercards.model.ReadOnlyUserPrefs;
+import seedu.powercards.model.UserPrefs;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.deck.Deck;
+
+/**
+ * A {@code Storage} that saves the master deck on a background thread instead of the caller's thread.
+ *
+ * Each save hands a snapshot of the master deck to a single writer thread. The snapshot copies the cards of each
+ * deck on their own, reusing the copy from the last snapshot for decks whose revision is unchanged, so that a storage
+ * can write only the decks that changed without grouping every card by deck, and a save does not copy every card on
+ * the caller's thread. Saves that arrive while a write is still queued replace the queued snapshot, so a burst of
+ * saves results in one write of the latest data.
+ * Failed writes are passed to the write failure handler, as the caller has already moved on.
+ *
+ * User prefs, and master decks saved to any other path, are still written on the caller's thread.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "masterdeck-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Consumer<IOException> writeFailureHandler = ioe -> { };
+    private ReadOnlyMasterDeck pendingSnapshot;
+    private MasterDeckSnapshot lastSnapshot; // only used on the caller's thread
+    private IOException lastWriteFailure;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through to {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler told about master deck writes that failed on the writer thread.
+     * The handler is called on the writer thread.
+     */
+    public void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+        requireNonNull(writeFailureHandler);
+        this.writeFailureHandler = writeFailureHandler;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ MasterDeck methods ==============================
+
+    @Override
+    public Path getMasterDeckFilePath() {
+        return storage.getMasterDeckFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyMasterDeck> readMasterDeck() throws DataConversionException, IOException {
+        return readMasterDeck(storage.getMasterDeckFilePath());
+    }
+
+    /**
+     * Waits for queued writes, so that what is read includes every earlier save.
+     */
+    @Override
+    public Optional<ReadOnlyMasterDeck> readMasterDeck(Path filePath) throws DataConversionException, IOException {
+        awaitWrites();
+        return storage.readMasterDeck(filePath);
+    }
+
+    @Override
+    public void saveMasterDeck(ReadOnlyMasterDeck masterDeck) throws IOException {
+        saveMasterDeck(masterDeck, storage.getMasterDeckFilePath());
+    }
+
+    /**
+     * Queues {@code masterDeck} to be written in the background if {@code filePath} is the master deck file.
+     * Any other path is written immediately, after the queued writes.
+     */
+    @Override
+    public void saveMasterDeck(ReadOnlyMasterDeck masterDeck, Path filePath) throws IOException {
+        requireNonNull(masterDeck);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(storage.getMasterDeckFilePath())) {
+            awaitWrites();
+            storage.saveMasterDeck(masterDeck, filePath);
+            return;
+        }
+
+        MasterDeckSnapshot snapshot = new MasterDeckSnapshot(masterDeck, lastSnapshot);
+        lastSnapshot = snapshot;
+        synchronized (this) {
+            boolean isWriteQueued = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            if (isWriteQueued) {
+                logger.fine("Coalesced master deck save into the queued write");
+                return;
+            }
+        }
+        writer.submit(this::writePendingSnapshot);
+    }
+
+    /**
+     * Writes the latest queued snapshot. Runs on the writer thread.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyMasterDeck snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveMasterDeck(snapshot);
+            synchronized (this) {
+                lastWriteFailure = null;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to write master deck in the background: " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                lastWriteFailure = ioe;
+            }
+            writeFailureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Blocks until every queued write has finished.
+     *
+     * @throws IOException if the last write failed.
+     */
+    public void flush() throws IOException {
+        awaitWrites();
+        synchronized (this) {
+            if (lastWriteFailure != null) {
+                throw lastWriteFailure;
+            }
+        }
+    }
+
+    /**
+     * Writes any queued master deck and stops the writer thread.
+     *
+     * @throws IOException if the last write failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void awaitWrites() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for master deck writes", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * A copy of the deck list of a master deck, of which decks are loaded, and of the cards and revision of each
+     * loaded deck whose changes are tracked, taken on the caller's thread.
+     * Cards and decks are immutable, so copying the lists is enough to keep later changes out of the write.
+     *
+     * The card list is only built when asked for, such as by a storage that writes every card, by joining the cards
+     * of each deck in deck order, which is the order they are read back in from the shards of each deck. If the
+     * changes of a loaded deck are not tracked, the card list is copied up front instead.
+     */
+    private static class MasterDeckSnapshot implements ReadOnlyMasterDeck {
+        private ObservableList<Card> cards; // built on first use if null
+        private final ObservableList<Deck> decks;
+        private final Set<Deck> unloadedDecks = new HashSet<>();
+        private final Map<Deck, Long> revisionsByDeck = new HashMap<>();
+        private final Map<Deck, List<Card>> cardsByDeck = new HashMap<>();
+
+        /**
+         * Copies {@code source}, reusing the cards of {@code previous}, if not null, for decks with the same revision.
+         */
+        MasterDeckSnapshot(ReadOnlyMasterDeck source, MasterDeckSnapshot previous) {
+            decks = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getDeckList()));
+            boolean hasUntrackedDecks = false;
+            int trackedCardCount = 0;
+            for (Deck deck : decks) {
+                if (!source.isDeckLoaded(deck)) {
+                    unloadedDecks.add(deck);
+                    continue;
+                }
+                long revision = source.getDeckRevision(deck);
+                if (revision == UNTRACKED_REVISION) {
+                    hasUntrackedDecks = true;
+                    continue;
+                }
+                boolean isUnchanged = previous != null && previous.getDeckRevision(deck) == revision;
+                List<Card> cardsInDeck = isUnchanged
+                        ? previous.cardsByDeck.get(deck)
+                        : List.copyOf(source.getCardsInDeck(deck));
+                revisionsByDeck.put(deck, revision);
+                cardsByDeck.put(deck, cardsInDeck);
+                trackedCardCount += cardsInDeck.size();
+            }
+            if (hasUntrackedDecks || trackedCardCount != source.getCardList().size()) {
+                cards = FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(source.getCardList()));
+            }
+        }
+
+        @Override
+        public synchronized ObservableList<Card> getCardList() {
+            if (cards == null) {
+                List<Card> cardsOfAllDecks = new ArrayList<>();
+                for (Deck deck : decks) {
+                    cardsOfAllDecks.addAll(cardsByDeck.getOrDefault(deck, List.of()));
+                }
+                cards = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(cardsOfAllDecks));
+            }
+            return cards;
+        }
+
+        @Override
+        public ObservableList<Deck> getDeckList() {
+            return decks;
+        }
+
+        @Override
+        public boolean isDeckLoaded(Deck deck) {
+            return !unloadedDecks.contains(deck);
+        }
+
+        @Override
+        public List<Card> getCardsInDeck(Deck deck) {
+            List<Card> cardsInDeck = cardsByDeck.get(deck);
+            return cardsInDeck != null ? cardsInDeck : ReadOnlyMasterDeck.super.getCardsInDeck(deck);
+        }
+
+        @Override
+        public long getDeckRevision(Deck deck) {
+            return revisionsByDeck.getOrDefault(deck, UNTRACKED_REVISION);
+        }
+    }
+}
@@ -43,8 +43,9 @@ public class CardElement extends UiPart<Region> {
         super(FXML);
         this.card = card;
         id.setText(displayedIndex + ". ");
-        question.setText(card.getQuestion().question);
-        answer.setText(card.getAnswer().answer);
+        question.setText(card.getQuestion().getText());
+        answer.setText(card.getAnswer().getText());
+        tags.getChildren().add(new Label("#" + card.getId()));
 
         if (!card.getTag().tagName.equals(Tag.TagName.UNTAGGED)) {
             tags.getChildren().add(new CardTag(card.getTagName()));
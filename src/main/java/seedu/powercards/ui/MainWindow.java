@@ -195,6 +195,13 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows {@code feedbackToUser} in the result display, outside of a command.
+     */
+    void showFeedbackToUser(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
+
     /**
      * Closes the application.
      */
@@ -41,7 +41,7 @@ public class ReviewElement extends UiPart<Region> {
         super(FXML);
         this.card = card;
 
-        question.setText(card.getQuestion().question);
+        question.setText(card.getQuestion().getText());
 
         answer.setText(EMPTY_STRING);
 
@@ -51,7 +51,7 @@ public class ReviewElement extends UiPart<Region> {
 
         if (card.isFlipped()) {
             this.getRoot().setStyle("-fx-background-color: #6c68c3;");
-            answer.setText(card.getAnswer().answer);
+            answer.setText(card.getAnswer().getText());
         }
     }
 
@@ -42,7 +42,7 @@ public class UnflippedReviewElement extends UiPart<Region> {
         super(FXML);
         this.card = card;
 
-        question.setText(card.getQuestion().question);
+        question.setText(card.getQuestion().getText());
 
         answer.setText(EMPTY_STRING);
 
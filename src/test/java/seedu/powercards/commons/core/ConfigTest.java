@@ -16,7 +16,9 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Loaded deck limit : 0\n"
+                + "Text arena (MB) : 0";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
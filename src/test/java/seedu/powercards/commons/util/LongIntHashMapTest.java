@@ -0,0 +1,77 @@
+package seedu.powercards.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LongIntHashMapTest {
+
+    private final LongIntHashMap map = new LongIntHashMap();
+
+    @Test
+    public void getOrDefault_missingKey_returnsDefault() {
+        assertEquals(-1, map.getOrDefault(42, -1));
+        assertFalse(map.containsKey(42));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        map.put(42, 1);
+        map.put(42, 2);
+        assertEquals(2, map.getOrDefault(42, -1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void put_zeroAndNegativeKeys_kept() {
+        map.put(0, 7);
+        map.put(-5, 8);
+        assertEquals(7, map.getOrDefault(0, -1));
+        assertEquals(8, map.getOrDefault(-5, -1));
+        assertEquals(2, map.size());
+
+        assertTrue(map.remove(0));
+        assertFalse(map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void remove_manyKeys_sameAsHashMap() {
+        // keys that differ only in their high bits collide often, which exercises probing and backward shifts
+        Random random = new Random(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            long key = (long) random.nextInt(2_000) << 40;
+            if (random.nextBoolean()) {
+                map.put(key, i);
+                expected.put(key, i);
+            } else {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int i = 0; i < 2_000; i++) {
+            long key = (long) i << 40;
+            assertEquals((int) expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+        }
+    }
+
+    @Test
+    public void clear_nonEmptyMap_becomesEmpty() {
+        map.put(0, 1);
+        map.put(1, 2);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(1));
+    }
+}
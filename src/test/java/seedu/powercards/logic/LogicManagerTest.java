@@ -21,6 +21,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.powercards.commons.core.GuiSettings;
 import seedu.powercards.logic.commands.commandresult.CommandResult;
 import seedu.powercards.logic.commands.deckcommands.AddDeckCommand;
+import seedu.powercards.logic.commands.deckcommands.SelectDeckCommand;
+import seedu.powercards.logic.commands.deckcommands.ShowDecksCommand;
 import seedu.powercards.logic.commands.deckcommands.UnselectDeckCommand;
 import seedu.powercards.logic.commands.exceptions.CommandException;
 import seedu.powercards.logic.commands.reviewcommands.EndReviewCommand;
@@ -113,6 +115,35 @@ public class LogicManagerTest {
         assertCommandFailure(addDeckCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commandsNotModifyingMasterDeck_saveSkipped() throws Exception {
+        Model model = new ModelManager(getTypicalMasterDeck(), new UserPrefs());
+        Logic logic = new LogicManager(model, storage);
+
+        logic.execute(SelectDeckCommand.COMMAND_WORD + " 1"); // first save always happens
+        assertEquals(0, logic.getSkippedSaveCount());
+        logic.execute(UnselectDeckCommand.COMMAND_WORD);
+        logic.execute(ShowDecksCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSkippedSaveCount());
+
+        logic.execute(AddDeckCommand.COMMAND_WORD + " Biology");
+        assertEquals(2, logic.getSkippedSaveCount());
+        assertEquals(model.getMasterDeck(), new MasterDeck(storage.readMasterDeck().get()));
+    }
+
+    @Test
+    public void execute_afterSaveFailure_saveNotSkipped() throws Exception {
+        Model model = new ModelManager(getTypicalMasterDeck(), new UserPrefs());
+        Logic logic = new LogicManager(model, storage);
+
+        logic.execute(SelectDeckCommand.COMMAND_WORD + " 1");
+        logic.handleSaveFailure(); // as if the save had failed on a background writer
+        logic.execute(UnselectDeckCommand.COMMAND_WORD);
+        assertEquals(0, logic.getSkippedSaveCount());
+        logic.execute(ShowDecksCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSkippedSaveCount());
+    }
+
     @Test
     public void getFilteredCardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCardList().remove(0));
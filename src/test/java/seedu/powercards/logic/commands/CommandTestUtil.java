@@ -116,8 +116,8 @@ public class CommandTestUtil {
     public static void showCardAtIndex(Model model, Index targetIndex) {
         assertTrue(targetIndex.getZeroBased() < model.getFilteredCardList().size());
         Card card = model.getFilteredCardList().get(targetIndex.getZeroBased());
-        final String otherQuestion = card.getQuestion().question;
-        model.updateFilteredCardList(c -> c.getQuestion().question.equals(otherQuestion));
+        final String otherQuestion = card.getQuestion().getText();
+        model.updateFilteredCardList(c -> c.getQuestion().getText().equals(otherQuestion));
         assertEquals(1, model.getFilteredCardList().size());
     }
 
@@ -52,6 +52,29 @@ public class DeleteCardCommandTest {
         assertCommandFailure(deleteCardCommand, model, Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_validIdFilteredList_success() {
+        Card cardToDelete = model.getFilteredCardList().get(INDEX_SECOND.getZeroBased());
+        showCardAtIndex(model, INDEX_FIRST);
+        DeleteCardCommand deleteCardCommand = new DeleteCardCommand(CardTarget.ofId(cardToDelete.getId()));
+
+        String expectedMessage = String.format(DeleteCardCommand.MESSAGE_DELETE_CARD_SUCCESS, cardToDelete);
+
+        Model expectedModel = new ModelManager(model.getMasterDeck(), new UserPrefs());
+        expectedModel.updateFilteredCardList(model.getFilteredCardList()::contains);
+        expectedModel.deleteCard(cardToDelete);
+
+        assertCommandSuccess(deleteCardCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unusedId_throwsCommandException() {
+        long unusedId = model.getMasterDeck().getCardList().stream().mapToLong(Card::getId).max().getAsLong() + 1;
+        DeleteCardCommand deleteCardCommand = new DeleteCardCommand(CardTarget.ofId(unusedId));
+
+        assertCommandFailure(deleteCardCommand, model, Messages.MESSAGE_INVALID_CARD_ID);
+    }
+
     @Test
     public void execute_validIndexFilteredList_success() {
         showCardAtIndex(model, INDEX_FIRST);
@@ -100,6 +123,12 @@ public class DeleteCardCommandTest {
 
         // different card -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // same id -> returns true
+        assertTrue(new DeleteCardCommand(CardTarget.ofId(1)).equals(new DeleteCardCommand(CardTarget.ofId(1))));
+
+        // id instead of index -> returns false
+        assertFalse(deleteFirstCommand.equals(new DeleteCardCommand(CardTarget.ofId(1))));
     }
 
     /**
@@ -19,6 +19,7 @@ import seedu.powercards.logic.commands.exceptions.CommandException;
 import seedu.powercards.model.Model;
 import seedu.powercards.model.ModelManager;
 import seedu.powercards.model.UserPrefs;
+import seedu.powercards.model.tag.Tag;
 import seedu.powercards.model.tag.Tag.TagName;
 
 public class ReviewCommandTest {
@@ -88,5 +89,37 @@ public class ReviewCommandTest {
         // different index -> returns false
         assertNotEquals(reviewCommand, reviewCommandDifferentIndex);
 
+        // different seed -> returns false
+        ReviewCommand reviewCommandWithSeed = new ReviewCommand(INDEX_SECOND, Arrays.asList(TagName.MEDIUM), 42);
+        assertNotEquals(reviewCommand, reviewCommandWithSeed);
+        assertNotEquals(reviewCommandWithSeed, new ReviewCommand(INDEX_SECOND, Arrays.asList(TagName.MEDIUM), 7));
+        assertEquals(reviewCommandWithSeed, new ReviewCommand(INDEX_SECOND, Arrays.asList(TagName.MEDIUM), 42));
+
+        // due cards only -> returns false
+        assertNotEquals(new ReviewCommand(INDEX_SECOND, Arrays.asList()), ReviewCommand.ofDueCards(INDEX_SECOND));
+        assertEquals(ReviewCommand.ofDueCards(INDEX_SECOND), ReviewCommand.ofDueCards(INDEX_SECOND));
+    }
+
+    @Test
+    public void execute_dueReview_reviewedCardNoLongerDue() throws Exception {
+        ReviewCommand dueReviewCommand = ReviewCommand.ofDueCards(INDEX_FIFTH);
+        assertEquals(String.format(ReviewCommand.MESSAGE_SUCCESS_DUE, model.getFilteredDeckList().get(4)
+                .getDeckName()), dueReviewCommand.execute(model).getFeedbackToUser());
+
+        model.tagCurrentCardInReview(new Tag(TagName.EASY));
+        model.endReview();
+        CommandException thrown = assertThrows(CommandException.class, () -> dueReviewCommand.execute(model));
+        assertEquals(ReviewCommand.MESSAGE_NO_CARDS_DUE, thrown.getMessage());
+    }
+
+    @Test
+    public void execute_sameSeed_sameOrder() throws Exception {
+        Model otherModel = new ModelManager(getTypicalMasterDeck(), new UserPrefs());
+        new ReviewCommand(INDEX_FIRST, Arrays.asList(), 42).execute(model);
+        new ReviewCommand(INDEX_FIRST, Arrays.asList(), 42).execute(otherModel);
+
+        do {
+            assertEquals(model.getReviewCardList(), otherModel.getReviewCardList());
+        } while (model.goToNextCard() && otherModel.goToNextCard());
     }
 }
@@ -7,6 +7,7 @@ import static seedu.powercards.testutil.TypicalIndexes.INDEX_FIRST;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.powercards.logic.commands.cardcommands.CardTarget;
 import seedu.powercards.logic.commands.cardcommands.DeleteCardCommand;
 
 /**
@@ -23,10 +24,13 @@ public class DeleteCardCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteCardCommand(INDEX_FIRST));
+        assertParseSuccess(parser, " #12 ", new DeleteCardCommand(CardTarget.ofId(12)));
     }
 
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCardCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "#0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCardCommand.MESSAGE_USAGE));
     }
 }
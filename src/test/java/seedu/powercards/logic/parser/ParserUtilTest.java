@@ -1,12 +1,14 @@
 package seedu.powercards.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.powercards.logic.parser.ParserUtil.MESSAGE_INVALID_CARD_ID;
 import static seedu.powercards.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.powercards.testutil.Assert.assertThrows;
 import static seedu.powercards.testutil.TypicalIndexes.INDEX_FIRST;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.powercards.logic.commands.cardcommands.CardTarget;
 import seedu.powercards.logic.parser.exceptions.ParseException;
 import seedu.powercards.model.card.Answer;
 import seedu.powercards.model.card.Question;
@@ -44,6 +46,20 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseCardTarget_invalidId_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_CARD_ID, () -> ParserUtil.parseCardTarget("#0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_CARD_ID, () -> ParserUtil.parseCardTarget("#-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_CARD_ID, () -> ParserUtil.parseCardTarget("#+3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_CARD_ID, () -> ParserUtil.parseCardTarget("# 3"));
+    }
+
+    @Test
+    public void parseCardTarget_validInput_success() throws Exception {
+        assertEquals(CardTarget.ofIndex(INDEX_FIRST), ParserUtil.parseCardTarget("  1  "));
+        assertEquals(CardTarget.ofId(9_000_000_000L), ParserUtil.parseCardTarget("  #9000000000  "));
+    }
+
     @Test
     public void parseQuestion_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseQuestion((String) null));
@@ -130,4 +146,17 @@ public class ParserUtilTest {
         String inputFloat = "10.5";
         assertThrows(ParseException.class, () -> ParserUtil.parseReviewLimit(inputFloat));
     }
+
+    @Test
+    void parseSeed_validValues_returnsSeed() throws Exception {
+        assertEquals(42, ParserUtil.parseSeed(" 42 "));
+        assertEquals(Long.MIN_VALUE, ParserUtil.parseSeed(String.valueOf(Long.MIN_VALUE)));
+    }
+
+    @Test
+    void parseSeed_invalidValues_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseSeed("forty-two"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseSeed("4.2"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseSeed("9223372036854775808"));
+    }
 }
@@ -47,6 +47,32 @@ public class ReviewCommandParserTest {
         assertEquals(expectedCommand, parser.parse(args));
     }
 
+    @Test
+    public void parse_validArgsWithSeed_returnsReviewCommandWithSeed() throws ParseException {
+        ReviewCommand expectedCommand = new ReviewCommand(Index.fromOneBased(1), List.of(TagName.EASY), -42);
+        assertEquals(expectedCommand, parser.parse("1 -e s\\-42"));
+        assertEquals(expectedCommand, parser.parse("1 s\\-42 -e"));
+    }
+
+    @Test
+    public void parse_invalidSeed_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("1 s\\abc"));
+        assertThrows(ParseException.class, () -> parser.parse("1 -e s\\"));
+    }
+
+    @Test
+    public void parse_dueFlag_returnsReviewCommandOfDueCards() throws ParseException {
+        assertEquals(ReviewCommand.ofDueCards(Index.fromOneBased(1)), parser.parse("1 -d"));
+        assertEquals(ReviewCommand.ofDueCards(Index.fromOneBased(1)), parser.parse("1 -D"));
+    }
+
+    @Test
+    public void parse_dueFlagWithOtherArgs_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("1 -d -e"));
+        assertThrows(ParseException.class, () -> parser.parse("1 -d s\\42"));
+        assertThrows(ParseException.class, () -> parser.parse("1 -d now"));
+    }
+
     @Test
     public void parse_missingIndex_throwsParseException() {
         String invalidInput = " " + "-e";
@@ -2,28 +2,41 @@ package seedu.powercards.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.powercards.logic.commands.CommandTestUtil.VALID_TAG_MEDIUM;
 import static seedu.powercards.testutil.Assert.assertThrows;
 import static seedu.powercards.testutil.TypicalCards.LOOP;
+import static seedu.powercards.testutil.TypicalCards.VARIABLE;
 import static seedu.powercards.testutil.TypicalCards.getTypicalMasterDeck;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.Schedule;
 import seedu.powercards.model.card.exceptions.DuplicateCardException;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.deck.exceptions.DeckLoadException;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
 import seedu.powercards.testutil.CardBuilder;
 
 public class MasterDeckTest {
 
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
     private final MasterDeck masterDeck = new MasterDeck();
 
     @Test
@@ -53,6 +66,19 @@ public class MasterDeckTest {
         assertThrows(DuplicateCardException.class, () -> masterDeck.resetData(newData));
     }
 
+    @Test
+    public void getVersion_onlyChangesWhenModified() {
+        masterDeck.resetData(getTypicalMasterDeck());
+        long version = masterDeck.getVersion();
+
+        masterDeck.hasCard(LOOP);
+        masterDeck.getDeckSize(LOOP.getDeck());
+        assertEquals(version, masterDeck.getVersion());
+
+        masterDeck.tagCard(LOOP, new Tag(TagName.EASY));
+        assertNotEquals(version, masterDeck.getVersion());
+    }
+
     @Test
     public void hasCard_nullCard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> masterDeck.hasCard(null));
@@ -76,11 +102,254 @@ public class MasterDeckTest {
         assertTrue(masterDeck.hasCard(editedLoop));
     }
 
+    @Test
+    public void getCardsInDeck_afterCardOperations_tracksDeckMembership() {
+        Deck programming = LOOP.getDeck();
+        Deck history = new Deck("History");
+        masterDeck.addCard(LOOP);
+        masterDeck.addCard(VARIABLE);
+        assertEquals(Arrays.asList(LOOP, VARIABLE), masterDeck.getCardsInDeck(programming));
+
+        Card movedLoop = new CardBuilder(LOOP).withDeck("History").build();
+        masterDeck.setCard(LOOP, movedLoop);
+        assertEquals(Collections.singletonList(VARIABLE), masterDeck.getCardsInDeck(programming));
+        assertEquals(Collections.singletonList(movedLoop), masterDeck.getCardsInDeck(history));
+
+        masterDeck.removeCard(movedLoop);
+        assertTrue(masterDeck.getCardsInDeck(history).isEmpty());
+    }
+
+    @Test
+    public void getDeckRevision_changedDeck_newRevisionSharedWithCopies() {
+        MasterDeck typicalMasterDeck = getTypicalMasterDeck();
+        Deck programming = LOOP.getDeck();
+        Deck otherDeck = typicalMasterDeck.getDeckList().stream()
+                .filter(deck -> !deck.equals(programming)).findFirst().get();
+        MasterDeck copy = new MasterDeck(typicalMasterDeck);
+        assertEquals(typicalMasterDeck.getDeckRevision(programming), copy.getDeckRevision(programming));
+
+        long otherRevision = copy.getDeckRevision(otherDeck);
+        copy.tagCard(copy.getCardsInDeck(programming).get(0), new Tag(TagName.EASY));
+        assertNotEquals(typicalMasterDeck.getDeckRevision(programming), copy.getDeckRevision(programming));
+        assertEquals(otherRevision, copy.getDeckRevision(otherDeck));
+
+        // cards set anew may differ from any seen before
+        MasterDeck reset = new MasterDeck();
+        reset.setDecks(typicalMasterDeck.getDeckList());
+        reset.setCards(typicalMasterDeck.getCardList());
+        assertNotEquals(typicalMasterDeck.getDeckRevision(otherDeck), reset.getDeckRevision(otherDeck));
+    }
+
+    @Test
+    public void tagCard_afterRemovalsAndMoves_taggedInPlaceInDeck() {
+        Deck deck = new Deck("Deck");
+        List<Card> expectedCards = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Card card = new CardBuilder().withQuestion("Question " + i).withDeck("Deck").build();
+            masterDeck.addCard(card);
+            expectedCards.add(card);
+        }
+        masterDeck.removeCard(expectedCards.remove(1));
+        masterDeck.moveCards(deck, new Deck("Other"));
+        masterDeck.moveCards(new Deck("Other"), deck);
+        Card movedAway = new CardBuilder(expectedCards.remove(0)).withDeck("Other").build();
+        masterDeck.setCard(new CardBuilder(movedAway).withDeck("Deck").build(), movedAway);
+
+        for (int i = 0; i < expectedCards.size(); i++) {
+            Card easyCard = new CardBuilder(expectedCards.get(i)).withTag("easy").build();
+            masterDeck.tagCard(expectedCards.get(i), Tag.of(TagName.EASY));
+            expectedCards.set(i, easyCard);
+            assertEquals(expectedCards, masterDeck.getCardsInDeck(deck));
+        }
+        assertEquals(4, masterDeck.getDeckSize(deck, Collections.singletonList(TagName.EASY)));
+        assertEquals(Collections.singletonList(movedAway), masterDeck.getCardsInDeck(new Deck("Other")));
+    }
+
+    @Test
+    public void getDueCards_reviewedCards_earliestDueFirst() {
+        Deck deck = new Deck("Deck");
+        for (int i = 0; i < 5; i++) {
+            masterDeck.addCard(new CardBuilder().withQuestion("Question " + i).withDeck("Deck").build());
+        }
+        assertEquals(3, masterDeck.getDueCards(deck, 3, TODAY).size()); // orders the deck by due date
+
+        List<Card> cards = new ArrayList<>(masterDeck.getCardsInDeck(deck));
+        masterDeck.reviewCard(cards.get(0), Tag.of(TagName.EASY), TODAY); // due tomorrow
+        masterDeck.setCard(cards.get(1), cards.get(1).buildCardWithSchedule(
+                new Schedule(250, 6, 2, TODAY.minusDays(3).toEpochDay()))); // overdue since 3 days ago
+        cards = new ArrayList<>(masterDeck.getCardsInDeck(deck));
+
+        // cards never reviewed are due first
+        assertEquals(Arrays.asList(cards.get(2), cards.get(3), cards.get(4), cards.get(1)),
+                masterDeck.getDueCards(deck, 10, TODAY));
+        assertEquals(Arrays.asList(cards.get(2), cards.get(3)), masterDeck.getDueCards(deck, 2, TODAY));
+        assertEquals(Arrays.asList(cards.get(2), cards.get(3), cards.get(4), cards.get(1), cards.get(0)),
+                masterDeck.getDueCards(deck, 10, TODAY.plusDays(1)));
+        assertEquals(Collections.emptyList(), masterDeck.getDueCards(new Deck("Other"), 10, TODAY));
+    }
+
+    @Test
+    public void getDueCards_afterReschedulesRemovalsAndMoves_onlyCardsInDeck() {
+        Deck deck = new Deck("Deck");
+        for (int i = 0; i < 4; i++) {
+            masterDeck.addCard(new CardBuilder().withQuestion("Question " + i).withDeck("Deck").build());
+        }
+        masterDeck.getDueCards(deck, 1, TODAY);
+
+        for (int day = 0; day < 50; day++) { // leaves many entries that no longer match their card
+            Card first = masterDeck.getCardsInDeck(deck).get(0);
+            masterDeck.reviewCard(first, Tag.of(day % 2 == 0 ? TagName.EASY : TagName.HARD), TODAY.plusDays(day));
+        }
+        List<Card> cards = new ArrayList<>(masterDeck.getCardsInDeck(deck));
+        masterDeck.removeCard(cards.get(1));
+        Card movedAway = cards.get(2).buildCardWithDeck(new Deck("Other"));
+        masterDeck.setCard(cards.get(2), movedAway);
+
+        assertEquals(Collections.singletonList(cards.get(3)), masterDeck.getDueCards(deck, 10, TODAY));
+        assertEquals(Arrays.asList(cards.get(3), cards.get(0)), masterDeck.getDueCards(deck, 10,
+                TODAY.plusDays(60)));
+        assertEquals(Collections.singletonList(masterDeck.getCardsInDeck(new Deck("Other")).get(0)),
+                masterDeck.getDueCards(new Deck("Other"), 10, TODAY));
+    }
+
+    @Test
+    public void getDeckSize_afterTaggingAndMoving_countsUpdated() {
+        Deck programming = LOOP.getDeck();
+        masterDeck.addCard(LOOP);
+        masterDeck.addCard(VARIABLE);
+        assertEquals(2, masterDeck.getDeckSize(programming));
+        assertEquals(2, masterDeck.getDeckSize(programming, Collections.singletonList(TagName.HARD)));
+        assertEquals(2, masterDeck.getDeckSize(programming, Collections.emptyList()));
+
+        masterDeck.tagCard(LOOP, new Tag(TagName.EASY));
+        assertEquals(1, masterDeck.getDeckSize(programming, Collections.singletonList(TagName.HARD)));
+        assertEquals(2, masterDeck.getDeckSize(programming, Arrays.asList(TagName.EASY, TagName.HARD)));
+
+        Deck renamed = new Deck("Renamed");
+        masterDeck.moveCards(programming, renamed);
+        assertEquals(0, masterDeck.getDeckSize(programming, Collections.singletonList(TagName.HARD)));
+        assertEquals(1, masterDeck.getDeckSize(renamed, Collections.singletonList(TagName.EASY)));
+        assertEquals(2, masterDeck.getDeckSize(renamed));
+    }
+
+    @Test
+    public void removeDeck_deckWithCards_removesOnlyCardsInDeck() {
+        MasterDeck typicalMasterDeck = getTypicalMasterDeck();
+        int sizeBefore = typicalMasterDeck.getCardList().size();
+        int programmingSize = typicalMasterDeck.getCardsInDeck(LOOP.getDeck()).size();
+
+        typicalMasterDeck.removeDeck(LOOP.getDeck());
+
+        assertEquals(sizeBefore - programmingSize, typicalMasterDeck.getCardList().size());
+        assertTrue(typicalMasterDeck.getCardsInDeck(LOOP.getDeck()).isEmpty());
+        assertFalse(typicalMasterDeck.hasDeck(LOOP.getDeck()));
+    }
+
+    @Test
+    public void loadDeck_unloadedDeck_cardsReadOnceWithoutModifying() {
+        List<Deck> loadedDecks = new ArrayList<>();
+        MasterDeck lazyMasterDeck = getLazyMasterDeck(deck -> {
+            loadedDecks.add(deck);
+            return Arrays.asList(LOOP, VARIABLE);
+        });
+        Deck programming = LOOP.getDeck();
+        assertFalse(lazyMasterDeck.isDeckLoaded(programming));
+        assertTrue(lazyMasterDeck.getCardList().isEmpty());
+        assertEquals(2, lazyMasterDeck.getDeckSize(programming));
+        assertEquals(2, lazyMasterDeck.getDeckSize(programming, Collections.singletonList(TagName.HARD)));
+
+        long version = lazyMasterDeck.getVersion();
+        lazyMasterDeck.loadDeck(programming);
+        lazyMasterDeck.loadDeck(programming);
+
+        assertTrue(lazyMasterDeck.isDeckLoaded(programming));
+        assertEquals(Arrays.asList(LOOP, VARIABLE), lazyMasterDeck.getCardsInDeck(programming));
+        assertEquals(Collections.singletonList(programming), loadedDecks);
+        assertEquals(version, lazyMasterDeck.getVersion());
+    }
+
+    @Test
+    public void loadDeck_loaderFails_deckStaysUnloaded() {
+        MasterDeck lazyMasterDeck = getLazyMasterDeck(deck -> {
+            throw new DeckLoadException(deck, "unreadable");
+        });
+        assertThrows(DeckLoadException.class, () -> lazyMasterDeck.loadDeck(LOOP.getDeck()));
+        assertFalse(lazyMasterDeck.isDeckLoaded(LOOP.getDeck()));
+        assertEquals(2, lazyMasterDeck.getDeckSize(LOOP.getDeck()));
+    }
+
+    @Test
+    public void unloadDeck_onlyUnmodifiedDecksUnloaded() {
+        MasterDeck lazyMasterDeck = getLazyMasterDeck(deck ->
+                Arrays.asList(LOOP.buildCardWithId(1), VARIABLE.buildCardWithId(2)));
+        Deck programming = LOOP.getDeck();
+        lazyMasterDeck.loadDeck(programming);
+
+        assertTrue(lazyMasterDeck.unloadDeck(programming));
+        assertTrue(lazyMasterDeck.getCardList().isEmpty());
+        assertEquals(2, lazyMasterDeck.getDeckSize(programming));
+
+        lazyMasterDeck.loadDeck(programming);
+        lazyMasterDeck.tagCard(LOOP, new Tag(TagName.EASY));
+        assertFalse(lazyMasterDeck.unloadDeck(programming));
+
+        // decks that were not read through a loader are never unloaded
+        assertFalse(getTypicalMasterDeck().unloadDeck(programming));
+    }
+
+    @Test
+    public void unloadDeck_cardsLoadedWithoutIds_notUnloaded() {
+        MasterDeck lazyMasterDeck = getLazyMasterDeck(deck -> Arrays.asList(LOOP, VARIABLE));
+        Deck programming = LOOP.getDeck();
+        lazyMasterDeck.loadDeck(programming);
+
+        // the ids given to the cards have not been saved yet
+        assertFalse(lazyMasterDeck.unloadDeck(programming));
+        assertTrue(lazyMasterDeck.getCardList().stream().noneMatch(card -> card.getId() == Card.NO_ID));
+    }
+
+    @Test
+    public void setDeck_renameUnloadedDeck_loadsCardsFirst() {
+        MasterDeck lazyMasterDeck = getLazyMasterDeck(deck -> Arrays.asList(LOOP, VARIABLE));
+        Deck programming = LOOP.getDeck();
+        Deck renamed = new Deck("Renamed");
+
+        lazyMasterDeck.setDeck(programming, renamed);
+        lazyMasterDeck.moveCards(programming, renamed);
+
+        assertEquals(2, lazyMasterDeck.getCardsInDeck(renamed).size());
+        assertTrue(lazyMasterDeck.isDeckLoaded(renamed));
+    }
+
+    @Test
+    public void removeDeck_unloadedDeck_removed() {
+        MasterDeck lazyMasterDeck = getLazyMasterDeck(deck -> {
+            throw new AssertionError("An unloaded deck should be removed without loading it.");
+        });
+        lazyMasterDeck.removeDeck(LOOP.getDeck());
+        assertFalse(lazyMasterDeck.hasDeck(LOOP.getDeck()));
+        assertEquals(0, lazyMasterDeck.getDeckSize(LOOP.getDeck()));
+    }
+
     @Test
     public void getCardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> masterDeck.getCardList().remove(0));
     }
 
+    /**
+     * Returns a master deck with the deck of {@code LOOP} and {@code VARIABLE}, two HARD cards, left unloaded.
+     */
+    private static MasterDeck getLazyMasterDeck(DeckLoader deckLoader) {
+        Deck programming = LOOP.getDeck();
+        int[] tagCounts = new int[TagName.values().length];
+        tagCounts[TagName.HARD.ordinal()] = 2;
+
+        MasterDeck lazyMasterDeck = new MasterDeck();
+        lazyMasterDeck.setDecks(List.of(programming));
+        lazyMasterDeck.setUnloadedDecks(Map.of(programming, tagCounts), deckLoader);
+        return lazyMasterDeck;
+    }
+
     /**
      * A stub ReadOnlyDeck whose cards list can violate interface constraints.
      */
@@ -102,4 +371,61 @@ public class MasterDeckTest {
         }
     }
 
+    @Test
+    public void addCard_equalDeckInstances_cardsShareCanonicalDeck() {
+        masterDeck.addDeck(new Deck("History"));
+        masterDeck.addCard(new CardBuilder(LOOP).withDeck("History").build());
+        masterDeck.addCard(new CardBuilder(VARIABLE).withDeck("History").build());
+        masterDeck.setCard(masterDeck.getCardList().get(1),
+                new CardBuilder(VARIABLE).withDeck("History").withTag(VALID_TAG_MEDIUM).build());
+
+        Deck historyDeck = masterDeck.getCardList().get(0).getDeck();
+        assertSame(historyDeck, masterDeck.getCardList().get(1).getDeck());
+        assertSame(masterDeck.getDeckList().get(0), historyDeck);
+
+        masterDeck.moveCards(historyDeck, new Deck("Renamed").buildSelectedDeck());
+        Deck renamedDeck = masterDeck.getCardList().get(0).getDeck();
+        assertSame(renamedDeck, masterDeck.getCardList().get(1).getDeck());
+        assertFalse(renamedDeck.isSelected());
+    }
+
+    @Test
+    public void removeDeck_deckWithCards_singleChange() {
+        MasterDeck typicalMasterDeck = getTypicalMasterDeck();
+        Deck programming = LOOP.getDeck();
+        int cardCount = typicalMasterDeck.getCardList().size();
+        int[] changeCount = new int[1];
+        typicalMasterDeck.getCardList().addListener((ListChangeListener<Card>) change -> changeCount[0]++);
+
+        typicalMasterDeck.removeDeck(programming);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(cardCount - 2, typicalMasterDeck.getCardList().size());
+        assertEquals(0, typicalMasterDeck.getDeckSize(programming));
+        assertFalse(typicalMasterDeck.hasCard(LOOP));
+    }
+
+    @Test
+    public void moveCards_deckWithCards_singleChangeAndIdsKept() {
+        MasterDeck typicalMasterDeck = getTypicalMasterDeck();
+        Deck programming = LOOP.getDeck();
+        Deck renamed = new Deck("Renamed");
+        List<Card> cardsBefore = new ArrayList<>(typicalMasterDeck.getCardList());
+        int[] changeCount = new int[1];
+        typicalMasterDeck.getCardList().addListener((ListChangeListener<Card>) change -> changeCount[0]++);
+
+        typicalMasterDeck.setDeck(programming, renamed);
+        typicalMasterDeck.moveCards(programming, renamed);
+
+        assertEquals(1, changeCount[0]);
+        assertTrue(typicalMasterDeck.getCardsInDeck(programming).isEmpty());
+        assertEquals(2, typicalMasterDeck.getDeckSize(renamed));
+        for (int i = 0; i < cardsBefore.size(); i++) {
+            Card before = cardsBefore.get(i);
+            Card after = typicalMasterDeck.getCardList().get(i);
+            assertEquals(before.getId(), after.getId());
+            assertEquals(before.isInDeck(programming) ? renamed : before.getDeck(), after.getDeck());
+        }
+    }
+
 }
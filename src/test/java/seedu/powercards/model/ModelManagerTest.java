@@ -12,12 +12,17 @@ import static seedu.powercards.testutil.TypicalCards.getTypicalMasterDeck;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.powercards.commons.core.GuiSettings;
+import seedu.powercards.commons.core.index.Index;
+import seedu.powercards.model.card.Card;
 import seedu.powercards.model.card.QuestionContainsKeywordsPredicate;
 import seedu.powercards.model.deck.Deck;
 import seedu.powercards.model.tag.Tag;
@@ -111,6 +116,51 @@ public class ModelManagerTest {
                 List.of(new Tag.TagName[]{Tag.TagName.UNTAGGED})));
     }
 
+    @Test
+    public void tagCurrentCardInReview_taggedTwice_scheduledFromLastTag() {
+        ModelManager model = new ModelManager(getTypicalMasterDeck(), new UserPrefs());
+        model.reviewDeck(Index.fromOneBased(5), List.of()); // a deck of one card
+        Card drawnCard = model.getReview().get().getCurrCard();
+
+        model.tagCurrentCardInReview(Tag.of(Tag.TagName.EASY));
+        model.tagCurrentCardInReview(Tag.of(Tag.TagName.HARD));
+
+        Card storedCard = model.getMasterDeck().getCardList().filtered(drawnCard::isSameCard).get(0);
+        assertEquals(Tag.of(Tag.TagName.HARD), storedCard.getTag());
+        assertEquals(drawnCard.getSchedule().next(Tag.TagName.HARD, LocalDate.now()), storedCard.getSchedule());
+        assertEquals(storedCard, model.getReview().get().getCurrCard());
+    }
+
+    @Test
+    public void selectDeck_loadedDeckLimit_leastRecentlyOpenedDeckUnloaded() {
+        MasterDeck typicalMasterDeck = getTypicalMasterDeck();
+        List<Deck> decks = typicalMasterDeck.getDeckList();
+        Map<Deck, int[]> tagCounts = new HashMap<>();
+        for (Deck deck : decks) {
+            int[] counts = new int[Tag.TagName.values().length];
+            typicalMasterDeck.getCardsInDeck(deck).forEach(card -> counts[card.getTag().tagName.ordinal()]++);
+            tagCounts.put(deck, counts);
+        }
+        MasterDeck lazyMasterDeck = new MasterDeck();
+        lazyMasterDeck.setDecks(decks);
+        lazyMasterDeck.setUnloadedDecks(tagCounts, typicalMasterDeck::getCardsInDeck);
+
+        ModelManager model = new ModelManager(lazyMasterDeck, new UserPrefs());
+        model.setLoadedDeckLimit(1);
+        assertTrue(model.getMasterDeck().getCardList().isEmpty());
+        assertEquals(typicalMasterDeck.getDeckSize(decks.get(0)), model.getDeckSize(0));
+
+        model.selectDeck(Index.fromOneBased(1));
+        assertTrue(model.getMasterDeck().isDeckLoaded(decks.get(0)));
+        assertEquals(typicalMasterDeck.getCardsInDeck(decks.get(0)), model.getFilteredCardList());
+
+        model.unselectDeck();
+        model.selectDeck(Index.fromOneBased(2));
+        assertFalse(model.getMasterDeck().isDeckLoaded(decks.get(0)));
+        assertTrue(model.getMasterDeck().isDeckLoaded(decks.get(1)));
+        assertEquals(typicalMasterDeck.getCardsInDeck(decks.get(1)), model.getFilteredCardList());
+    }
+
     @Test
     public void equals() {
         MasterDeck masterDeck = new MasterDeckBuilder().withCard(LOOP).withCard(VARIABLE).build();
@@ -135,7 +185,7 @@ public class ModelManagerTest {
         assertNotEquals(modelManager, new ModelManager(differentMasterDeck, userPrefs));
 
         // different filteredList -> returns false
-        String[] keywords = LOOP.getQuestion().question.split("\\s+");
+        String[] keywords = LOOP.getQuestion().getText().split("\\s+");
         modelManager.updateFilteredCardList(new QuestionContainsKeywordsPredicate(Arrays.asList(keywords)));
         assertNotEquals(modelManager, new ModelManager(masterDeck, userPrefs));
 
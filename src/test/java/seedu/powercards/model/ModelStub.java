@@ -65,11 +65,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getMasterDeckVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasCard(Card card) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<Card> getCardById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteCard(Card target) {
         throw new AssertionError("This method should not be called.");
@@ -136,6 +146,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void setLoadedDeckLimit(int loadedDeckLimit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void unselectDeck() {
         throw new AssertionError("This method should not be called.");
@@ -173,6 +188,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void reviewDeck(Index deckIndex, List<TagName> difficulties, long seed) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean reviewDueCards(Index deckIndex) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setNumCardsPerReview(int limit) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,55 @@
+package seedu.powercards.model.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.powercards.testutil.CardBuilder;
+
+public class CardIdentityIndexTest {
+
+    private final List<Card> cards = new ArrayList<>();
+    private final CardIdentityIndex index = new CardIdentityIndex(CardIdentityIndex.sourceOf(cards));
+
+    @Test
+    public void add_severalResizes_tableKeptAtMostHalfFull() {
+        for (int i = 0; i < 1000; i++) {
+            addCard("Question " + i);
+            assertEquals(cards.size(), index.size());
+            assertTrue(index.size() * 2 <= index.capacity());
+        }
+
+        // 16 slots grown six times, the smallest table that holds 1000 positions at most half full
+        assertEquals(2048, index.capacity());
+        for (int i = 0; i < cards.size(); i++) {
+            assertEquals(i, index.indexOf(cards.get(i)));
+        }
+    }
+
+    @Test
+    public void shiftAfterRemoval_cardRemoved_laterCardsFoundAtNewPositions() {
+        for (int i = 0; i < 100; i++) {
+            addCard("Question " + i);
+        }
+        Card removed = cards.get(40);
+
+        index.remove(40);
+        cards.remove(40);
+        index.shiftAfterRemoval(40, cards.size());
+
+        assertEquals(99, index.size());
+        assertEquals(-1, index.indexOf(removed));
+        for (int i = 0; i < cards.size(); i++) {
+            assertEquals(i, index.indexOf(cards.get(i)));
+        }
+    }
+
+    private void addCard(String question) {
+        cards.add(new CardBuilder().withQuestion(question).build());
+        index.add(cards.size() - 1);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.powercards.model.card;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+
+/**
+ * Compares the heap retained by a {@code UniqueCardList} holding {@code Card} objects with one keeping its cards in
+ * columns, see {@link ColumnarCardList}, and how long each takes to read all of its cards.
+ * The cards are built one at a time and not kept elsewhere, so what remains after a full GC is held by the list.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=seedu.powercards.model.card.CardStoreMemoryBenchmark}.
+ */
+public class CardStoreMemoryBenchmark {
+
+    private static final int CARD_COUNT = 3_000_000;
+    private static final int DECK_COUNT = 100;
+
+    /**
+     * Prints the retained heap and full read time of each store holding {@code CARD_COUNT} cards.
+     */
+    public static void main(String[] args) {
+        List<Deck> decks = new ArrayList<>(DECK_COUNT);
+        for (int i = 0; i < DECK_COUNT; i++) {
+            decks.add(new Deck("Deck " + i));
+        }
+
+        System.out.printf("%10s %10s %12s %14s %12s%n", "store", "cards", "heap (MB)", "bytes / card", "read (ms)");
+        measure("objects", UniqueCardList::new, decks);
+        measure("columnar", ColumnarCardList::newUniqueCardList, decks);
+    }
+
+    private static void measure(String store, Supplier<UniqueCardList> listFactory, List<Deck> decks) {
+        long heapBefore = usedHeapAfterGc();
+        UniqueCardList cards = listFactory.get();
+        TagName[] tagNames = TagName.values();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            cards.add(new Card(new Question("What is the answer to question " + i + "?"),
+                    new Answer("This is the answer to question " + i),
+                    Tag.of(tagNames[i % tagNames.length]),
+                    decks.get(i % DECK_COUNT)));
+        }
+        long retainedHeap = usedHeapAfterGc() - heapBefore;
+
+        long start = System.nanoTime();
+        long questionLengths = 0;
+        for (Card card : cards) {
+            questionLengths += card.getQuestion().getText().length();
+        }
+        long readNanos = System.nanoTime() - start;
+
+        System.out.printf("%10s %10d %12.1f %14.1f %12.0f%n", store, cards.asUnmodifiableObservableList().size(),
+                retainedHeap / 1e6, (double) retainedHeap / CARD_COUNT, readNanos / 1e6);
+        if (questionLengths == 0) {
+            throw new AssertionError(); // keeps the read loop from being optimised away
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
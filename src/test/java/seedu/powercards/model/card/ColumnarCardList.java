@@ -0,0 +1,362 @@
+package seedu.powercards.model.card;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.collections.ModifiableObservableListBase;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+
+/**
+ * An observable list of cards that keeps the fields of its cards in columns instead of holding {@code Card}
+ * objects: ids, decks, tags, flip states and review schedules in primitive arrays, with each deck stored once and
+ * referred to by index, and the question and answer text of every card in one shared UTF-8 buffer.
+ *
+ * A {@code Card} is created from the columns each time an element is read, and is not kept. A large list thus
+ * costs little more heap than its text, at the price of building a card on every read.
+ *
+ * Text replaced or removed is left in the buffer until it makes up more than half of it, then the buffer is
+ * compacted.
+ *
+ * Used to compare the heap taken by a card list against that of a list of {@code Card} objects, see
+ * {@code CardStoreMemoryBenchmark}.
+ */
+class ColumnarCardList extends ModifiableObservableListBase<Card> implements CardIdentityIndex.Source {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_COMPACTED_TEXT_LENGTH = 1 << 16;
+    private static final TagName[] TAG_NAMES = TagName.values();
+
+    private final List<Deck> decks = new ArrayList<>();
+    private final Map<Deck, Integer> deckRefs = new HashMap<>();
+    private Columns columns = new Columns(MIN_CAPACITY);
+
+    /**
+     * Returns an empty {@code UniqueCardList} that keeps its cards in a {@code ColumnarCardList}.
+     */
+    static UniqueCardList newUniqueCardList() {
+        ColumnarCardList columnarList = new ColumnarCardList();
+        return new UniqueCardList(columnarList, columnarList);
+    }
+
+    @Override
+    public Card get(int index) {
+        Objects.checkIndex(index, columns.size);
+        return cardAt(columns, index);
+    }
+
+    @Override
+    public int size() {
+        return columns.size;
+    }
+
+    @Override
+    public int identityHashAt(int position) {
+        return CardIdentityIndex.identityHash(columns.questionHashes[position],
+                decks.get(columns.deckRefs[position]));
+    }
+
+    @Override
+    public boolean isSameCardAt(int position, Card card) {
+        Columns c = columns;
+        if (c.questionHashes[position] != card.getQuestion().hashCode()
+                || !decks.get(c.deckRefs[position]).equals(card.getDeck())) {
+            return false;
+        }
+        byte[] question = card.getQuestion().getText().getBytes(UTF_8);
+        int start = c.textStarts[position];
+        return Arrays.equals(c.text, start, start + c.questionLengths[position], question, 0, question.length);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code cards} in one pass, as a single change.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Card> cards) {
+        requireNonNull(cards);
+        Columns replaced = columns;
+        columns = new Columns(Math.max(MIN_CAPACITY, cards.size()));
+        for (Card card : cards) {
+            int index = columns.size++;
+            write(index, card);
+        }
+
+        if (replaced.size > 0 || columns.size > 0) {
+            beginChange();
+            nextReplace(0, columns.size, new ColumnsView(replaced));
+            modCount++;
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void doAdd(int index, Card card) {
+        requireNonNull(card);
+        Columns c = columns;
+        if (c.size == c.ids.length) {
+            c.grow();
+        }
+        c.moveRange(index, index + 1, c.size - index);
+        c.size++;
+        write(index, card);
+    }
+
+    @Override
+    protected Card doSet(int index, Card card) {
+        requireNonNull(card);
+        Card replaced = cardAt(columns, index);
+        write(index, card);
+        compactTextIfSparse();
+        return replaced;
+    }
+
+    @Override
+    protected Card doRemove(int index) {
+        Card removed = cardAt(columns, index);
+        Columns c = columns;
+        c.unusedTextLength += c.questionLengths[index] + c.answerLengths[index];
+        c.moveRange(index + 1, index, c.size - index - 1);
+        c.size--;
+        compactTextIfSparse();
+        return removed;
+    }
+
+    /**
+     * Removes the cards from {@code fromIndex} to {@code toIndex} in one pass, as a single change.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, columns.size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        Columns c = columns;
+        List<Card> removed = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            removed.add(cardAt(c, i));
+            c.unusedTextLength += c.questionLengths[i] + c.answerLengths[i];
+        }
+        c.moveRange(toIndex, fromIndex, c.size - toIndex);
+        c.size -= toIndex - fromIndex;
+        compactTextIfSparse();
+
+        beginChange();
+        nextRemove(fromIndex, removed);
+        modCount++;
+        endChange();
+    }
+
+    /**
+     * Stores the fields of {@code card} at {@code index}, which must be within the list.
+     * The text of the card already there is reused if it is unchanged, as when only a tag is edited.
+     */
+    private void write(int index, Card card) {
+        Columns c = columns;
+        byte[] question = card.getQuestion().getText().getBytes(UTF_8);
+        byte[] answer = card.getAnswer().getText().getBytes(UTF_8);
+
+        boolean hasText = c.textStarts[index] != Columns.NO_TEXT;
+        if (!hasText || !c.hasTextAt(index, question, answer)) {
+            if (hasText) {
+                c.unusedTextLength += c.questionLengths[index] + c.answerLengths[index];
+            }
+            c.textStarts[index] = c.appendText(question, answer);
+            c.questionLengths[index] = question.length;
+            c.answerLengths[index] = answer.length;
+        }
+        c.ids[index] = card.getId();
+        c.deckRefs[index] = deckRefOf(card.getDeck());
+        c.tags[index] = (byte) card.getTag().tagName.ordinal();
+        c.isFlipped[index] = card.isFlipped();
+        c.questionHashes[index] = card.getQuestion().hashCode();
+        Schedule schedule = card.getSchedule();
+        c.easeFactors[index] = schedule.getEaseFactor();
+        c.intervals[index] = schedule.getIntervalDays();
+        c.repetitions[index] = schedule.getRepetitions();
+        c.dueEpochDays[index] = schedule.getDueEpochDay();
+    }
+
+    private Card cardAt(Columns c, int index) {
+        int start = c.textStarts[index];
+        int questionLength = c.questionLengths[index];
+        // the text is already held in the columns, so it is not copied into a text arena as well
+        Card card = new Card(new Question(new String(c.text, start, questionLength, UTF_8), TextArena.NONE),
+                new Answer(new String(c.text, start + questionLength, c.answerLengths[index], UTF_8), TextArena.NONE),
+                Tag.of(TAG_NAMES[c.tags[index]]), decks.get(c.deckRefs[index]), c.ids[index],
+                Schedule.of(c.easeFactors[index], c.intervals[index], c.repetitions[index], c.dueEpochDays[index]));
+        return c.isFlipped[index] ? card : card.buildUnflippedCard();
+    }
+
+    private int deckRefOf(Deck deck) {
+        Integer deckRef = deckRefs.get(deck);
+        if (deckRef == null) {
+            deckRef = decks.size();
+            decks.add(deck);
+            deckRefs.put(deck, deckRef);
+        }
+        return deckRef;
+    }
+
+    private void compactTextIfSparse() {
+        Columns c = columns;
+        if (c.unusedTextLength > MIN_COMPACTED_TEXT_LENGTH && c.unusedTextLength * 2 > c.textLength) {
+            c.compactText();
+        }
+    }
+
+    /**
+     * The columns of a list of cards, with each card's question followed by its answer in {@code text}.
+     */
+    private static final class Columns {
+        static final int NO_TEXT = -1;
+
+        private long[] ids;
+        private int[] deckRefs;
+        private byte[] tags;
+        private boolean[] isFlipped;
+        private int[] questionHashes;
+        private int[] easeFactors;
+        private int[] intervals;
+        private int[] repetitions;
+        private long[] dueEpochDays;
+        private int[] textStarts;
+        private int[] questionLengths;
+        private int[] answerLengths;
+        private byte[] text;
+        private int textLength;
+        private int unusedTextLength;
+        private int size;
+
+        Columns(int capacity) {
+            ids = new long[capacity];
+            deckRefs = new int[capacity];
+            tags = new byte[capacity];
+            isFlipped = new boolean[capacity];
+            questionHashes = new int[capacity];
+            easeFactors = new int[capacity];
+            intervals = new int[capacity];
+            repetitions = new int[capacity];
+            dueEpochDays = new long[capacity];
+            textStarts = new int[capacity];
+            Arrays.fill(textStarts, NO_TEXT);
+            questionLengths = new int[capacity];
+            answerLengths = new int[capacity];
+            text = new byte[capacity * 32];
+        }
+
+        void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            deckRefs = Arrays.copyOf(deckRefs, capacity);
+            tags = Arrays.copyOf(tags, capacity);
+            isFlipped = Arrays.copyOf(isFlipped, capacity);
+            questionHashes = Arrays.copyOf(questionHashes, capacity);
+            easeFactors = Arrays.copyOf(easeFactors, capacity);
+            intervals = Arrays.copyOf(intervals, capacity);
+            repetitions = Arrays.copyOf(repetitions, capacity);
+            dueEpochDays = Arrays.copyOf(dueEpochDays, capacity);
+            int oldCapacity = textStarts.length;
+            textStarts = Arrays.copyOf(textStarts, capacity);
+            Arrays.fill(textStarts, oldCapacity, capacity, NO_TEXT);
+            questionLengths = Arrays.copyOf(questionLengths, capacity);
+            answerLengths = Arrays.copyOf(answerLengths, capacity);
+        }
+
+        /**
+         * Copies {@code length} cards from {@code from} to {@code to}, and marks positions left behind past the
+         * end of the copied range as holding no text.
+         */
+        void moveRange(int from, int to, int length) {
+            System.arraycopy(ids, from, ids, to, length);
+            System.arraycopy(deckRefs, from, deckRefs, to, length);
+            System.arraycopy(tags, from, tags, to, length);
+            System.arraycopy(isFlipped, from, isFlipped, to, length);
+            System.arraycopy(questionHashes, from, questionHashes, to, length);
+            System.arraycopy(easeFactors, from, easeFactors, to, length);
+            System.arraycopy(intervals, from, intervals, to, length);
+            System.arraycopy(repetitions, from, repetitions, to, length);
+            System.arraycopy(dueEpochDays, from, dueEpochDays, to, length);
+            System.arraycopy(textStarts, from, textStarts, to, length);
+            System.arraycopy(questionLengths, from, questionLengths, to, length);
+            System.arraycopy(answerLengths, from, answerLengths, to, length);
+            if (from < to) {
+                Arrays.fill(textStarts, from, to, NO_TEXT);
+            } else {
+                Arrays.fill(textStarts, to + length, from + length, NO_TEXT);
+            }
+        }
+
+        /**
+         * Returns true if the card at {@code index} has the given question and answer text.
+         */
+        boolean hasTextAt(int index, byte[] question, byte[] answer) {
+            if (questionLengths[index] != question.length || answerLengths[index] != answer.length) {
+                return false;
+            }
+            int start = textStarts[index];
+            int answerStart = start + question.length;
+            return Arrays.equals(text, start, answerStart, question, 0, question.length)
+                    && Arrays.equals(text, answerStart, answerStart + answer.length, answer, 0, answer.length);
+        }
+
+        int appendText(byte[] question, byte[] answer) {
+            int length = question.length + answer.length;
+            if (textLength + length > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length + (text.length >> 1), textLength + length));
+            }
+            int start = textLength;
+            System.arraycopy(question, 0, text, start, question.length);
+            System.arraycopy(answer, 0, text, start + question.length, answer.length);
+            textLength += length;
+            return start;
+        }
+
+        void compactText() {
+            byte[] compacted = new byte[Math.max(textLength - unusedTextLength, MIN_CAPACITY) * 3 / 2];
+            int compactedLength = 0;
+            for (int i = 0; i < size; i++) {
+                int length = questionLengths[i] + answerLengths[i];
+                System.arraycopy(text, textStarts[i], compacted, compactedLength, length);
+                textStarts[i] = compactedLength;
+                compactedLength += length;
+            }
+            text = compacted;
+            textLength = compactedLength;
+            unusedTextLength = 0;
+        }
+    }
+
+    /**
+     * A read-only view of columns that have been replaced, reported as the removed cards of a change.
+     */
+    private final class ColumnsView extends AbstractList<Card> {
+        private final Columns viewed;
+
+        ColumnsView(Columns viewed) {
+            this.viewed = viewed;
+        }
+
+        @Override
+        public Card get(int index) {
+            Objects.checkIndex(index, viewed.size);
+            return cardAt(viewed, index);
+        }
+
+        @Override
+        public int size() {
+            return viewed.size;
+        }
+    }
+}
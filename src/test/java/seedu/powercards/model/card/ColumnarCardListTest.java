@@ -0,0 +1,121 @@
+package seedu.powercards.model.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.powercards.logic.commands.CommandTestUtil.VALID_TAG_MEDIUM;
+import static seedu.powercards.testutil.TypicalCards.LOOP;
+import static seedu.powercards.testutil.TypicalCards.PHOTOSYNTHESIS;
+import static seedu.powercards.testutil.TypicalCards.VARIABLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.powercards.testutil.CardBuilder;
+
+public class ColumnarCardListTest {
+
+    private final ColumnarCardList columnarCardList = new ColumnarCardList();
+
+    @Test
+    public void get_addedCards_equalCardsWithSameIdAndDeck() {
+        Card loop = LOOP.buildCardWithId(3);
+        Card unflippedVariable = VARIABLE.buildUnflippedCard();
+        columnarCardList.add(loop);
+        columnarCardList.add(unflippedVariable);
+
+        assertEquals(Arrays.asList(loop, unflippedVariable), columnarCardList);
+        assertEquals(3, columnarCardList.get(0).getId());
+        assertSame(LOOP.getDeck(), columnarCardList.get(0).getDeck());
+        assertFalse(columnarCardList.get(1).isFlipped());
+    }
+
+    @Test
+    public void get_scheduledCard_scheduleKept() {
+        Card scheduledLoop = LOOP.buildCardWithSchedule(new Schedule(236, 15, 3, 20_000));
+        columnarCardList.addAll(scheduledLoop, VARIABLE);
+        assertEquals(scheduledLoop.getSchedule(), columnarCardList.get(0).getSchedule());
+        assertSame(Schedule.NEW, columnarCardList.get(1).getSchedule());
+    }
+
+    @Test
+    public void get_nonAsciiText_decoded() {
+        Card card = new CardBuilder().withQuestion("Was ist ein Löwe? 狮子").withAnswer("Ein Tier 🦁").build();
+        columnarCardList.add(card);
+        assertEquals(card, columnarCardList.get(0));
+    }
+
+    @Test
+    public void addAndRemove_middleOfList_otherCardsKept() {
+        columnarCardList.addAll(LOOP, VARIABLE);
+        columnarCardList.add(1, PHOTOSYNTHESIS);
+        assertEquals(Arrays.asList(LOOP, PHOTOSYNTHESIS, VARIABLE), columnarCardList);
+
+        assertEquals(LOOP, columnarCardList.remove(0));
+        assertEquals(Arrays.asList(PHOTOSYNTHESIS, VARIABLE), columnarCardList);
+    }
+
+    @Test
+    public void set_tagOnlyEdited_cardReplaced() {
+        columnarCardList.addAll(LOOP, VARIABLE);
+        Card editedLoop = new CardBuilder(LOOP).withTag(VALID_TAG_MEDIUM).build();
+
+        assertEquals(LOOP, columnarCardList.set(0, editedLoop));
+        assertEquals(Arrays.asList(editedLoop, VARIABLE), columnarCardList);
+    }
+
+    @Test
+    public void setAll_manyEditsAndRemovals_textCompactedAndCardsKept() {
+        List<Card> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            expected.add(new CardBuilder().withQuestion("Question " + i).withAnswer("Answer " + "x".repeat(i % 97))
+                    .build());
+        }
+        columnarCardList.setAll(expected);
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < expected.size(); i += 3) {
+                Card edited = new CardBuilder(expected.get(i)).withAnswer("Edited " + round + "y".repeat(i % 89))
+                        .build();
+                expected.set(i, edited);
+                columnarCardList.set(i, edited);
+            }
+        }
+        expected.subList(100, 1500).clear();
+        columnarCardList.remove(100, 1500);
+
+        assertEquals(expected, columnarCardList);
+    }
+
+    @Test
+    public void setAllAndRemoveRange_singleChangeEach() {
+        List<List<Card>> removedPerChange = new ArrayList<>();
+        columnarCardList.addListener((ListChangeListener<Card>) change -> {
+            while (change.next()) {
+                removedPerChange.add(new ArrayList<>(change.getRemoved()));
+            }
+        });
+
+        columnarCardList.setAll(LOOP, VARIABLE, PHOTOSYNTHESIS);
+        columnarCardList.setAll(VARIABLE, PHOTOSYNTHESIS);
+        columnarCardList.remove(0, 2);
+
+        assertEquals(Arrays.asList(Collections.emptyList(), Arrays.asList(LOOP, VARIABLE, PHOTOSYNTHESIS),
+                Arrays.asList(VARIABLE, PHOTOSYNTHESIS)), removedPerChange);
+        assertTrue(columnarCardList.isEmpty());
+    }
+
+    @Test
+    public void isSameCardAt_cardsWithSameAndOtherIdentity() {
+        columnarCardList.add(LOOP);
+        assertTrue(columnarCardList.isSameCardAt(0, new CardBuilder(LOOP).withAnswer("Other answer").build()));
+        assertFalse(columnarCardList.isSameCardAt(0, new CardBuilder(LOOP).withDeck("Other").build()));
+        assertFalse(columnarCardList.isSameCardAt(0, VARIABLE));
+        assertEquals(CardIdentityIndex.identityHash(LOOP), columnarCardList.identityHashAt(0));
+    }
+}
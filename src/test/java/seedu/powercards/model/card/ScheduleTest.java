@@ -0,0 +1,69 @@
+package seedu.powercards.model.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.powercards.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.powercards.model.tag.Tag.TagName;
+
+public class ScheduleTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    @Test
+    public void constructor_invalidSchedule_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(129, 1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(250, -1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(250, 1, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(250, 1, 1, -1));
+    }
+
+    @Test
+    public void of_valuesOfNewCard_returnsNew() {
+        assertSame(Schedule.NEW, Schedule.of(250, 0, 0, 0));
+        assertNotEquals(Schedule.NEW, Schedule.of(250, 1, 1, 0));
+    }
+
+    @Test
+    public void next_easyEachTime_intervalGrowsByEaseFactor() {
+        Schedule first = Schedule.NEW.next(TagName.EASY, TODAY);
+        assertEquals(new Schedule(260, 1, 1, TODAY.plusDays(1).toEpochDay()), first);
+        Schedule second = first.next(TagName.EASY, TODAY.plusDays(1));
+        assertEquals(new Schedule(270, 6, 2, TODAY.plusDays(7).toEpochDay()), second);
+        Schedule third = second.next(TagName.EASY, TODAY.plusDays(7));
+        assertEquals(new Schedule(280, 16, 3, TODAY.plusDays(23).toEpochDay()), third); // 6 * 2.7 = 16.2
+    }
+
+    @Test
+    public void next_medium_easeFactorLowered() {
+        Schedule schedule = new Schedule(250, 6, 2, TODAY.toEpochDay()).next(TagName.MEDIUM, TODAY);
+        assertEquals(new Schedule(236, 15, 3, TODAY.plusDays(15).toEpochDay()), schedule);
+    }
+
+    @Test
+    public void next_hard_repetitionsResetAndDueTomorrow() {
+        Schedule schedule = new Schedule(140, 30, 5, TODAY.toEpochDay()).next(TagName.HARD, TODAY);
+        assertEquals(new Schedule(Schedule.MIN_EASE_FACTOR, 1, 0, TODAY.plusDays(1).toEpochDay()), schedule);
+    }
+
+    @Test
+    public void next_untagged_unchanged() {
+        Schedule schedule = new Schedule(250, 6, 2, TODAY.toEpochDay());
+        assertSame(schedule, schedule.next(TagName.UNTAGGED, TODAY));
+    }
+
+    @Test
+    public void isDueOn() {
+        assertTrue(Schedule.NEW.isDueOn(TODAY));
+        Schedule schedule = Schedule.NEW.next(TagName.EASY, TODAY);
+        assertFalse(schedule.isDueOn(TODAY));
+        assertTrue(schedule.isDueOn(TODAY.plusDays(1)));
+    }
+}
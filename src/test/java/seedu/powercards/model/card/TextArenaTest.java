@@ -0,0 +1,81 @@
+package seedu.powercards.model.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.powercards.testutil.Assert.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class TextArenaTest {
+
+    private final TextArena arena = new TextArena(2);
+
+    @Test
+    public void constructor_invalidSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TextArena(-1));
+        assertThrows(IllegalArgumentException.class, () -> new TextArena(4096));
+    }
+
+    @Test
+    public void store_nonAsciiText_readBack() {
+        long handle = arena.store("Was ist ein Löwe? 狮子 🦁");
+        long otherHandle = arena.store("What is a lion?");
+        assertEquals("Was ist ein Löwe? 狮子 🦁", arena.read(handle));
+        assertEquals("What is a lion?", arena.read(otherHandle));
+    }
+
+    @Test
+    public void store_arenaFull_noHandle() {
+        String text = "x".repeat(TextArena.CHUNK_SIZE / 2 + 1); // only one fits in a chunk
+        assertNotEquals(TextArena.NO_HANDLE, arena.store(text));
+        assertNotEquals(TextArena.NO_HANDLE, arena.store(text));
+        assertEquals(TextArena.NO_HANDLE, arena.store(text));
+        assertEquals(TextArena.NO_HANDLE, arena.store("x".repeat(TextArena.CHUNK_SIZE + 1)));
+        assertEquals(TextArena.NO_HANDLE, TextArena.NONE.store("x"));
+    }
+
+    @Test
+    public void read_fromAnotherThread_textReadBack() throws Exception {
+        String text = "x".repeat(TextArena.CHUNK_SIZE / 2 + 1);
+        long handle = arena.store("What is gravity?");
+        arena.store(text);
+        long handleInNewChunk = arena.store(text); // does not fit in the first chunk
+
+        CompletableFuture<String> read = CompletableFuture.supplyAsync(() -> arena.read(handle));
+        CompletableFuture<String> readInNewChunk = CompletableFuture.supplyAsync(() -> arena.read(handleInNewChunk));
+        assertEquals("What is gravity?", read.get());
+        assertEquals(text, readInNewChunk.get());
+    }
+
+    @Test
+    public void read_handleNotStored_throwsIllegalArgumentException() {
+        long handle = arena.store("What is gravity?");
+        assertThrows(IllegalArgumentException.class, () -> new TextArena(1).read(handle));
+    }
+
+    @Test
+    public void isSameText() {
+        long handle = arena.store("What is gravity?");
+        assertTrue(arena.isSameText(handle, arena.store("What is gravity?")));
+        assertFalse(arena.isSameText(handle, arena.store("What is gravity")));
+        assertFalse(arena.isSameText(handle, arena.store("What is Gravity?")));
+    }
+
+    @Test
+    public void questionAndAnswer_textInArena_equalToTextOnHeap() {
+        Question question = new Question("What is gravity?", arena);
+        assertEquals("What is gravity?", question.getText());
+        assertEquals(new Question("What is gravity?", TextArena.NONE), question);
+        assertEquals(new Question("What is gravity?", arena), question);
+        assertEquals(new Question("What is gravity?").hashCode(), question.hashCode());
+        assertNotEquals(new Question("What is mass?", arena), question);
+
+        Answer answer = new Answer("A force of attraction", arena);
+        assertEquals(new Answer("A force of attraction", TextArena.NONE), answer);
+        assertNotEquals(new Answer("A force of repulsion", arena), answer);
+    }
+}
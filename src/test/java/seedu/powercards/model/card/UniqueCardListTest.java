@@ -2,6 +2,7 @@ package seedu.powercards.model.card;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.powercards.logic.commands.CommandTestUtil.VALID_ANSWER_GRAVITY;
 import static seedu.powercards.logic.commands.CommandTestUtil.VALID_TAG_HARD;
@@ -9,15 +10,20 @@ import static seedu.powercards.logic.commands.CommandTestUtil.VALID_TAG_MEDIUM;
 import static seedu.powercards.testutil.Assert.assertThrows;
 import static seedu.powercards.testutil.TypicalCards.LOOP;
 import static seedu.powercards.testutil.TypicalCards.PHOTOSYNTHESIS;
+import static seedu.powercards.testutil.TypicalCards.VARIABLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.powercards.model.card.exceptions.CardNotFoundException;
 import seedu.powercards.model.card.exceptions.DuplicateCardException;
+import seedu.powercards.model.deck.Deck;
 import seedu.powercards.testutil.CardBuilder;
 
 public class UniqueCardListTest {
@@ -109,6 +115,136 @@ public class UniqueCardListTest {
         assertThrows(DuplicateCardException.class, () -> uniqueCardList.setCard(LOOP, PHOTOSYNTHESIS));
     }
 
+    @Test
+    public void add_cardsWithoutId_givenDistinctIds() {
+        Card storedLoop = uniqueCardList.add(LOOP);
+        Card storedPhotosynthesis = uniqueCardList.add(PHOTOSYNTHESIS);
+
+        assertNotEquals(Card.NO_ID, storedLoop.getId());
+        assertNotEquals(storedLoop.getId(), storedPhotosynthesis.getId());
+        assertEquals(Optional.of(storedLoop), uniqueCardList.getById(storedLoop.getId()));
+    }
+
+    @Test
+    public void add_cardWithUsedId_givenUnusedId() {
+        uniqueCardList.add(LOOP.buildCardWithId(5));
+        Card stored = uniqueCardList.add(PHOTOSYNTHESIS.buildCardWithId(5));
+
+        assertNotEquals(5, stored.getId());
+        assertEquals(LOOP, uniqueCardList.getById(5).get());
+    }
+
+    @Test
+    public void setCard_editedCard_keepsTargetId() {
+        Card storedLoop = uniqueCardList.add(LOOP);
+        Card storedPhotosynthesis = uniqueCardList.setCard(storedLoop, PHOTOSYNTHESIS);
+
+        assertEquals(storedLoop.getId(), storedPhotosynthesis.getId());
+        assertEquals(Optional.of(PHOTOSYNTHESIS), uniqueCardList.getById(storedLoop.getId()));
+    }
+
+    @Test
+    public void setCards_cardsWithIds_idsKeptAndReserved() {
+        uniqueCardList.setCards(Arrays.asList(LOOP.buildCardWithId(7), PHOTOSYNTHESIS.buildCardWithId(3)));
+
+        assertEquals(LOOP, uniqueCardList.getById(7).get());
+        assertEquals(PHOTOSYNTHESIS, uniqueCardList.getById(3).get());
+        assertTrue(uniqueCardList.getNextId() > 7);
+    }
+
+    @Test
+    public void reserveIds_largerThanUsedIds_newCardsGivenLargerIds() {
+        uniqueCardList.reserveIds(100);
+        assertTrue(uniqueCardList.add(LOOP).getId() > 100);
+    }
+
+    @Test
+    public void remove_existingCard_idForgotten() {
+        long id = uniqueCardList.add(LOOP).getId();
+        uniqueCardList.remove(LOOP);
+        assertFalse(uniqueCardList.getById(id).isPresent());
+    }
+
+    @Test
+    public void moveCards_cardWithSameQuestionInNewDeck_throwsDuplicateCardException() {
+        uniqueCardList.add(LOOP);
+        uniqueCardList.add(new CardBuilder(LOOP).withDeck("Other").build());
+        assertThrows(DuplicateCardException.class, () ->
+                uniqueCardList.moveCards(LOOP.getDeck(), new Deck("Other")));
+        assertTrue(uniqueCardList.contains(LOOP));
+    }
+
+    @Test
+    public void moveCards_cardsOfDeck_movedInPlace() {
+        uniqueCardList.add(LOOP);
+        uniqueCardList.add(PHOTOSYNTHESIS);
+        Deck renamed = new Deck("Renamed");
+
+        List<Card> movedCards = uniqueCardList.moveCards(LOOP.getDeck(), renamed);
+
+        Card movedLoop = new CardBuilder(LOOP).withDeck("Renamed").build();
+        assertEquals(Collections.singletonList(movedLoop), movedCards);
+        assertEquals(Arrays.asList(movedLoop, PHOTOSYNTHESIS), uniqueCardList.asUnmodifiableObservableList());
+        assertFalse(uniqueCardList.contains(LOOP));
+        assertTrue(uniqueCardList.contains(movedLoop));
+        uniqueCardList.remove(movedLoop);
+    }
+
+    @Test
+    public void removeAll_someCards_remainingCardsStillIndexed() {
+        Card storedLoop = uniqueCardList.add(LOOP);
+        Card storedPhotosynthesis = uniqueCardList.add(PHOTOSYNTHESIS);
+        Card storedVariable = uniqueCardList.add(VARIABLE);
+
+        uniqueCardList.removeAll(Collections.singletonList(storedLoop));
+
+        assertEquals(Arrays.asList(PHOTOSYNTHESIS, VARIABLE), uniqueCardList.asUnmodifiableObservableList());
+        assertFalse(uniqueCardList.contains(LOOP));
+        assertFalse(uniqueCardList.getById(storedLoop.getId()).isPresent());
+        assertEquals(Optional.of(VARIABLE), uniqueCardList.getById(storedVariable.getId()));
+        uniqueCardList.remove(VARIABLE);
+        uniqueCardList.remove(storedPhotosynthesis);
+        assertTrue(uniqueCardList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void removeAll_scatteredCards_laterCardsFoundAtNewPositions() {
+        List<Card> cards = buildSyntheticCards(500);
+        uniqueCardList.setCards(cards);
+        Random random = new Random(3);
+        List<Card> removedCards = new ArrayList<>();
+        List<Card> remainingCards = new ArrayList<>();
+        for (Card card : uniqueCardList) {
+            if (random.nextInt(4) == 0) {
+                removedCards.add(card);
+            } else {
+                remainingCards.add(card);
+            }
+        }
+        Collections.shuffle(removedCards, random);
+
+        uniqueCardList.removeAll(removedCards);
+
+        assertEquals(remainingCards, uniqueCardList.asUnmodifiableObservableList());
+        for (Card card : remainingCards) {
+            assertEquals(Optional.of(card), uniqueCardList.getById(card.getId()));
+            assertTrue(uniqueCardList.contains(card));
+        }
+        for (Card card : removedCards) {
+            assertFalse(uniqueCardList.contains(card));
+            assertFalse(uniqueCardList.getById(card.getId()).isPresent());
+        }
+        remainingCards.forEach(uniqueCardList::remove);
+        assertTrue(uniqueCardList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void removeAll_cardNotInList_throwsCardNotFoundException() {
+        uniqueCardList.add(LOOP);
+        assertThrows(CardNotFoundException.class, () -> uniqueCardList.removeAll(Arrays.asList(LOOP, VARIABLE)));
+        assertTrue(uniqueCardList.contains(LOOP));
+    }
+
     @Test
     public void remove_nullCard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCardList.remove(null));
@@ -127,6 +263,26 @@ public class UniqueCardListTest {
         assertEquals(expectedUniqueCardList, uniqueCardList);
     }
 
+    @Test
+    public void remove_earlierCard_laterCardStillEditable() {
+        uniqueCardList.add(LOOP);
+        uniqueCardList.add(PHOTOSYNTHESIS);
+        uniqueCardList.remove(LOOP);
+        Card editedPhotosynthesis = new CardBuilder(PHOTOSYNTHESIS).withTag(VALID_TAG_HARD).build();
+        uniqueCardList.setCard(PHOTOSYNTHESIS, editedPhotosynthesis);
+        UniqueCardList expectedUniqueCardList = new UniqueCardList();
+        expectedUniqueCardList.add(editedPhotosynthesis);
+        assertEquals(expectedUniqueCardList, uniqueCardList);
+    }
+
+    @Test
+    public void setCard_editedCardHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniqueCardList.add(LOOP);
+        uniqueCardList.setCard(LOOP, PHOTOSYNTHESIS);
+        assertFalse(uniqueCardList.contains(LOOP));
+        assertTrue(uniqueCardList.contains(PHOTOSYNTHESIS));
+    }
+
     @Test
     public void setCards_nullUniqueCardList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCardList.setCards((UniqueCardList) null));
@@ -162,9 +318,93 @@ public class UniqueCardListTest {
         assertThrows(DuplicateCardException.class, () -> uniqueCardList.setCards(listWithDuplicateCards));
     }
 
+    @Test
+    public void setCards_millionUniqueCards_success() {
+        List<Card> cards = buildSyntheticCards(1_000_000);
+        uniqueCardList.setCards(cards);
+        assertEquals(cards.size(), uniqueCardList.asUnmodifiableObservableList().size());
+        assertTrue(uniqueCardList.contains(cards.get(cards.size() - 1)));
+    }
+
+    @Test
+    public void setCards_millionCardsWithTrailingDuplicate_throwsDuplicateCardException() {
+        List<Card> cards = buildSyntheticCards(1_000_000);
+        cards.add(cards.get(0));
+        assertThrows(DuplicateCardException.class, () -> uniqueCardList.setCards(cards));
+        assertTrue(uniqueCardList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void withColumnarStore_randomOperations_sameAsObjectStore() {
+        UniqueCardList columnarList = ColumnarCardList.newUniqueCardList();
+        List<Card> cards = buildSyntheticCards(300);
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            Card card = cards.get(random.nextInt(cards.size()));
+            Card edited = cards.get(random.nextInt(cards.size()));
+            switch (random.nextInt(4)) {
+            case 0:
+                if (!uniqueCardList.contains(card)) {
+                    assertEquals(uniqueCardList.add(card), columnarList.add(card));
+                }
+                break;
+            case 1:
+                if (uniqueCardList.contains(card)) {
+                    uniqueCardList.remove(card);
+                    columnarList.remove(card);
+                }
+                break;
+            case 2:
+                Card stored = uniqueCardList.getById(random.nextInt(300) + 1).orElse(null);
+                if (stored != null && (stored.isSameCard(edited) || !uniqueCardList.contains(edited))) {
+                    assertEquals(uniqueCardList.setCard(stored, edited), columnarList.setCard(stored, edited));
+                }
+                break;
+            default:
+                assertEquals(uniqueCardList.contains(card), columnarList.contains(card));
+            }
+        }
+
+        assertEquals(uniqueCardList, columnarList);
+        for (Card card : uniqueCardList) {
+            assertEquals(Optional.of(card), columnarList.getById(card.getId()));
+            assertTrue(columnarList.contains(card));
+        }
+    }
+
+    @Test
+    public void withColumnarStore_moveAndRemoveDeck_sameAsObjectStore() {
+        UniqueCardList columnarList = ColumnarCardList.newUniqueCardList();
+        List<Card> cards = Arrays.asList(LOOP, PHOTOSYNTHESIS, VARIABLE);
+        uniqueCardList.setCards(cards);
+        columnarList.setCards(cards);
+        Deck renamed = new Deck("Renamed");
+
+        assertEquals(uniqueCardList.moveCards(LOOP.getDeck(), renamed),
+                columnarList.moveCards(LOOP.getDeck(), renamed));
+        uniqueCardList.removeAll(Collections.singletonList(PHOTOSYNTHESIS));
+        columnarList.removeAll(Collections.singletonList(PHOTOSYNTHESIS));
+
+        assertEquals(uniqueCardList, columnarList);
+        assertTrue(columnarList.contains(new CardBuilder(VARIABLE).withDeck("Renamed").build()));
+        assertFalse(columnarList.contains(PHOTOSYNTHESIS));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueCardList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * Returns {@code count} distinct cards that share the same answer and deck.
+     */
+    private static List<Card> buildSyntheticCards(int count) {
+        Card template = new CardBuilder().build();
+        List<Card> cards = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            cards.add(new Card(new Question("Q" + i), template.getAnswer(), template.getTag(), template.getDeck()));
+        }
+        return cards;
+    }
 }
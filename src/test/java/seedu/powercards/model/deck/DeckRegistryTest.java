@@ -0,0 +1,46 @@
+package seedu.powercards.model.deck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.powercards.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class DeckRegistryTest {
+
+    private final DeckRegistry deckRegistry = new DeckRegistry();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> deckRegistry.intern((Deck) null));
+        assertThrows(NullPointerException.class, () -> deckRegistry.intern((String) null));
+    }
+
+    @Test
+    public void intern_equalDecks_returnsFirstDeck() {
+        Deck history = new Deck("History");
+        assertSame(history, deckRegistry.intern(history));
+        assertSame(history, deckRegistry.intern(new Deck("History")));
+        assertSame(history, deckRegistry.intern("History"));
+        assertNotSame(history, deckRegistry.intern("Science"));
+    }
+
+    @Test
+    public void intern_selectedDeck_registersUnselectedDeck() {
+        Deck canonicalDeck = deckRegistry.intern(new Deck("History").buildSelectedDeck());
+        assertFalse(canonicalDeck.isSelected());
+        assertEquals(new Deck("History"), canonicalDeck);
+    }
+
+    @Test
+    public void remove_internedDeck_nextInternRegistersNewDeck() {
+        Deck history = deckRegistry.intern("History");
+        deckRegistry.remove(new Deck("History"));
+
+        Deck otherHistory = new Deck("History");
+        assertSame(otherHistory, deckRegistry.intern(otherHistory));
+        assertNotSame(history, deckRegistry.intern("History"));
+    }
+}
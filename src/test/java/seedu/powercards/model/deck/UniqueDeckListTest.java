@@ -121,6 +121,14 @@ public class UniqueDeckListTest {
         assertEquals(originalList.asUnmodifiableObservableList(), replacementList.asUnmodifiableObservableList());
     }
 
+    @Test
+    public void setDecks_listWithDuplicateDecks_throwsDuplicateDeckException() {
+        List<Deck> decks = Arrays.asList(new Deck("Deck 1"), new Deck("Deck 2"), new Deck("Deck 1"));
+        DuplicateDeckException exception = assertThrows(DuplicateDeckException.class, ()
+            -> uniqueDeckList.setDecks(decks));
+        assertEquals("Operation would result in duplicate decks: [Deck 1] and [Deck 1]", exception.getMessage());
+    }
+
     @Test
     public void iterator_success() {
         List<Deck> decks = Arrays.asList(new Deck("Deck 1"),
@@ -1,7 +1,10 @@
 package seedu.powercards.model.review;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.powercards.model.tag.Tag.TagName.EASY;
+import static seedu.powercards.model.tag.Tag.TagName.HARD;
 import static seedu.powercards.testutil.Assert.assertThrows;
 import static seedu.powercards.testutil.TypicalCards.ATOM;
 import static seedu.powercards.testutil.TypicalCards.LIFE;
@@ -9,14 +12,23 @@ import static seedu.powercards.testutil.TypicalCards.LOOP;
 import static seedu.powercards.testutil.TypicalCards.PRESIDENT;
 import static seedu.powercards.testutil.TypicalCards.VARIABLE;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.util.Pair;
 import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.Question;
 import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.testutil.CardBuilder;
 
 public class ReviewTest {
     private Review review;
@@ -68,4 +80,140 @@ public class ReviewTest {
         assertFalse(review.isCurrCardFlipped());
     }
 
+    @Test
+    public void constructor_largeDeck_onlyDrawnCardsRead() {
+        int[] cardsRead = {0};
+        List<Card> largeDeck = new AbstractList<>() {
+            @Override
+            public Card get(int index) {
+                cardsRead[0]++;
+                return new CardBuilder().withQuestion("Question " + index).build();
+            }
+
+            @Override
+            public int size() {
+                return 50_000;
+            }
+        };
+
+        Review largeReview = new Review(deck, largeDeck, 3);
+        assertEquals(3, cardsRead[0]);
+        assertEquals(1, largeReview.getFilteredReviewCardList().size());
+    }
+
+    @Test
+    public void constructor_noLimit_everyCardDrawnOnce() {
+        Review fullReview = new Review(deck, cardsInDeck, -1, new Random(1));
+        Set<Card> drawnCards = new HashSet<>();
+        do {
+            drawnCards.add(fullReview.getCurrCard());
+        } while (fullReview.goToNextCard());
+        assertEquals(new HashSet<>(cardsInDeck), drawnCards);
+    }
+
+    @Test
+    public void constructor_eligibleCards_onlyEligibleCardsDrawn() {
+        for (int i = 0; i < cardsInDeck.size(); i++) {
+            cardsInDeck.set(i, cardsInDeck.get(i).buildCardWithtag(Tag.of(i % 2 == 0 ? HARD : EASY)));
+        }
+
+        Review hardReview = new Review(deck, cardsInDeck, card -> card.getTag().tagName == HARD, 3, -1,
+                new Random(1));
+        Set<Question> drawnQuestions = new HashSet<>();
+        do {
+            drawnQuestions.add(hardReview.getCurrCard().getQuestion());
+        } while (hardReview.goToNextCard());
+        assertEquals(Set.of(LOOP.getQuestion(), ATOM.getQuestion(), PRESIDENT.getQuestion()), drawnQuestions);
+        assertEquals(0, hardReview.getNoOfUntagged());
+    }
+
+    @Test
+    public void inOrder_givenCards_reviewedInGivenOrder() {
+        Review orderedReview = Review.inOrder(deck, cardsInDeck);
+        List<Card> reviewedCards = new ArrayList<>();
+        do {
+            reviewedCards.add(orderedReview.getCurrCard());
+        } while (orderedReview.goToNextCard());
+        assertEquals(cardsInDeck, reviewedCards);
+    }
+
+    @Test
+    public void constructor_sameSeed_sameOrder() {
+        Review seededReview = new Review(deck, cardsInDeck, 3, new Random(42));
+        Review otherReview = new Review(deck, cardsInDeck, 3, new Random(42));
+        do {
+            assertEquals(seededReview.getCurrCard(), otherReview.getCurrCard());
+        } while (seededReview.goToNextCard() && otherReview.goToNextCard());
+    }
+
+    @Test
+    public void flipCurrCard_shownCardFlipped() {
+        Card shownCard = review.getFilteredReviewCardList().get(0);
+        assertFalse(shownCard.isFlipped());
+        assertEquals(review.getCurrCard(), shownCard.buildFlippedCard());
+
+        review.flipCurrCard();
+        assertTrue(review.getFilteredReviewCardList().get(0).isFlipped());
+
+        review.goToNextCard();
+        assertFalse(review.isCurrCardFlipped());
+        assertFalse(review.getFilteredReviewCardList().get(0).isFlipped());
+    }
+
+    @Test
+    public void tagCurrentCard_deckCardsUnchanged() {
+        List<Card> cardsBefore = new ArrayList<>(cardsInDeck);
+        review.tagCurrentCard(Tag.of(EASY));
+
+        assertEquals(cardsBefore, cardsInDeck);
+        assertEquals("easy", review.getCurrCard().getTagName());
+        assertEquals("easy", review.getFilteredReviewCardList().get(0).getTagName());
+        assertEquals(1, review.getNoOfEasyTags());
+    }
+
+    @Test
+    public void tagCurrentCard_tagCountsUpdated() {
+        Review untaggedReview = new Review(deck, buildUntaggedCards(10), 4, new Random(1));
+        assertEquals(10, untaggedReview.getNoOfUntagged());
+
+        untaggedReview.tagCurrentCard(Tag.of(EASY));
+        untaggedReview.goToNextCard();
+        untaggedReview.tagCurrentCard(Tag.of(HARD));
+        untaggedReview.tagCurrentCard(Tag.of(EASY));
+
+        assertEquals(2, untaggedReview.getNoOfEasyTags());
+        assertEquals(0, untaggedReview.getNoOfMediumTags());
+        assertEquals(0, untaggedReview.getNoOfHardTags());
+        assertEquals(8, untaggedReview.getNoOfUntagged());
+        assertEquals(new Pair<>("Current Tags:", "2 Easy, 0 Medium, 0 Hard"),
+                untaggedReview.getReviewStatsList().get(2));
+    }
+
+    @Test
+    public void navigationAndTagging_onlyChangedStatsRowsReplaced() {
+        Review untaggedReview = new Review(deck, buildUntaggedCards(5), 5, new Random(1));
+        List<Integer> replacedRows = new ArrayList<>();
+        untaggedReview.getReviewStatsList().addListener((ListChangeListener<Pair<String, String>>) change -> {
+            while (change.next()) {
+                replacedRows.add(change.getFrom());
+            }
+        });
+
+        untaggedReview.goToNextCard();
+        untaggedReview.tagCurrentCard(Tag.of(HARD));
+        untaggedReview.tagCurrentCard(Tag.of(HARD)); // unchanged counts
+        untaggedReview.flipCurrCard();
+
+        assertEquals(List.of(1, 2), replacedRows);
+        assertEquals(new Pair<>("Current Card Number:", "2/5"), untaggedReview.getReviewStatsList().get(1));
+        assertEquals(4, untaggedReview.getReviewStatsList().size());
+    }
+
+    private static List<Card> buildUntaggedCards(int count) {
+        List<Card> untaggedCards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            untaggedCards.add(new CardBuilder().withQuestion("Question " + i).withTag("untagged").build());
+        }
+        return untaggedCards;
+    }
 }
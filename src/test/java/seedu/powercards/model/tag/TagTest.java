@@ -2,6 +2,7 @@ package seedu.powercards.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.powercards.model.tag.Tag.TagName.EASY;
 import static seedu.powercards.model.tag.Tag.TagName.HARD;
@@ -61,4 +62,11 @@ public class TagTest {
         assertEquals(UNTAGGED, untaggedTag.getTagName());
     }
 
+    @Test
+    public void of_sameTagName_returnsSharedTag() {
+        assertSame(Tag.of(EASY), Tag.of(EASY));
+        assertEquals(new Tag(HARD), Tag.of(HARD));
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+    }
+
 }
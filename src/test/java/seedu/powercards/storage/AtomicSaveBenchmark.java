@@ -0,0 +1,63 @@
+package seedu.powercards.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import seedu.powercards.commons.util.FileUtil;
+import seedu.powercards.commons.util.JsonUtil;
+import seedu.powercards.testutil.GeneratedMasterDecks;
+
+/**
+ * Measures how much the temp file, force and move of an atomic master deck save add to a plain overwrite.
+ * Both writes are given the same json string, so serialisation is not part of the timings.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=seedu.powercards.storage.AtomicSaveBenchmark}.
+ */
+public class AtomicSaveBenchmark {
+
+    private static final int[] CARD_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int RUNS = 5;
+
+    /**
+     * Prints the median plain and atomic save times of a master deck of each size in {@code CARD_COUNTS}.
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("atomic-save-benchmark");
+        Path file = dir.resolve("masterdeck.json");
+
+        System.out.printf("%10s %10s %14s %14s %14s%n", "cards", "size (MB)", "plain (ms)", "atomic (ms)",
+                "added (ms)");
+        for (int cardCount : CARD_COUNTS) {
+            String json = JsonUtil.toJsonString(
+                    new JsonSerializableMasterDeck(GeneratedMasterDecks.getMasterDeck(cardCount)));
+
+            long[] plainTimes = new long[RUNS];
+            long[] atomicTimes = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                long start = System.nanoTime();
+                FileUtil.writeToFile(file, json);
+                plainTimes[i] = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                FileUtil.writeToFileAtomically(file, json);
+                atomicTimes[i] = System.nanoTime() - start;
+            }
+
+            double plainMillis = medianMillis(plainTimes);
+            double atomicMillis = medianMillis(atomicTimes);
+            System.out.printf("%10d %10.1f %14.1f %14.1f %14.1f%n", cardCount, Files.size(file) / 1e6,
+                    plainMillis, atomicMillis, atomicMillis - plainMillis);
+        }
+
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir);
+    }
+
+    private static double medianMillis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+}
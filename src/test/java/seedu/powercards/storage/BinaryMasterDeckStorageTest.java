@@ -0,0 +1,141 @@
+package seedu.powercards.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.powercards.testutil.Assert.assertThrows;
+import static seedu.powercards.testutil.TypicalCards.ATOM;
+import static seedu.powercards.testutil.TypicalCards.LOOP;
+import static seedu.powercards.testutil.TypicalCards.VARIABLE;
+import static seedu.powercards.testutil.TypicalCards.getTypicalMasterDeck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.powercards.commons.exceptions.DataConversionException;
+import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.Schedule;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+import seedu.powercards.testutil.GeneratedMasterDecks;
+
+public class BinaryMasterDeckStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMasterDeck_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryMasterDeckStorage(testFolder.resolve("missing.bin")).readMasterDeck().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMasterDeck_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("masterdeck.bin");
+        BinaryMasterDeckStorage storage = new BinaryMasterDeckStorage(filePath);
+        MasterDeck original = getTypicalMasterDeck();
+
+        storage.saveMasterDeck(original);
+
+        assertTrue(BinaryMasterDeckFormat.isBinaryFile(filePath));
+        assertEquals(original, new MasterDeck(storage.readMasterDeck().get()));
+    }
+
+    @Test
+    public void readMasterDeck_savedMasterDeck_cardIdsKept() throws Exception {
+        Path filePath = testFolder.resolve("masterdeck.bin");
+        BinaryMasterDeckStorage storage = new BinaryMasterDeckStorage(filePath);
+        MasterDeck original = getTypicalMasterDeck();
+
+        storage.saveMasterDeck(original);
+
+        List<Card> readCards = storage.readMasterDeck().get().getCardList();
+        for (int i = 0; i < readCards.size(); i++) {
+            assertEquals(original.getCardList().get(i).getId(), readCards.get(i).getId());
+        }
+    }
+
+    @Test
+    public void readMasterDeck_reviewedCards_schedulesKept() throws Exception {
+        Path filePath = testFolder.resolve("masterdeck.bin");
+        BinaryMasterDeckStorage storage = new BinaryMasterDeckStorage(filePath);
+        MasterDeck original = getTypicalMasterDeck();
+        original.reviewCard(LOOP, new Tag(TagName.EASY), LocalDate.of(2026, 1, 1));
+        original.reviewCard(ATOM, new Tag(TagName.HARD), LocalDate.of(2026, 1, 1));
+
+        storage.saveMasterDeck(original);
+
+        MasterDeck readBack = new MasterDeck(storage.readMasterDeck().get());
+        assertEquals(original, readBack);
+        assertEquals(new Schedule(260, 1, 1, LocalDate.of(2026, 1, 2).toEpochDay()),
+                readBack.getCardList().filtered(LOOP::isSameCard).get(0).getSchedule());
+        assertEquals(Schedule.NEW, readBack.getCardList().filtered(VARIABLE::isSameCard).get(0).getSchedule());
+    }
+
+    @Test
+    public void readMasterDeck_jsonFile_readByHeader() throws Exception {
+        Path filePath = testFolder.resolve("masterdeck.json");
+        MasterDeck original = getTypicalMasterDeck();
+        new JsonMasterDeckStorage(filePath).saveMasterDeck(original);
+
+        assertEquals(original, new MasterDeck(new BinaryMasterDeckStorage(filePath).readMasterDeck().get()));
+    }
+
+    @Test
+    public void saveMasterDeck_otherPath_writesJson() throws Exception {
+        BinaryMasterDeckStorage storage = new BinaryMasterDeckStorage(testFolder.resolve("masterdeck.bin"));
+        Path exportPath = testFolder.resolve("export.json");
+        MasterDeck original = getTypicalMasterDeck();
+
+        storage.saveMasterDeck(original, exportPath);
+
+        assertFalse(BinaryMasterDeckFormat.isBinaryFile(exportPath));
+        assertEquals(original, new MasterDeck(new JsonMasterDeckStorage(exportPath).readMasterDeck().get()));
+    }
+
+    @Test
+    public void readMasterDeck_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("masterdeck.bin");
+        BinaryMasterDeckStorage storage = new BinaryMasterDeckStorage(filePath);
+        storage.saveMasterDeck(getTypicalMasterDeck());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(DataConversionException.class, storage::readMasterDeck);
+    }
+
+    @Test
+    public void readMasterDeck_otherVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("masterdeck.bin");
+        BinaryMasterDeckStorage storage = new BinaryMasterDeckStorage(filePath);
+        storage.saveMasterDeck(getTypicalMasterDeck());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = BinaryMasterDeckFormat.VERSION + 1; // the byte after the magic number
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, storage::readMasterDeck);
+    }
+
+    @Test
+    public void saveMasterDeck_largeMasterDeck_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("masterdeck.bin");
+        Path jsonPath = testFolder.resolve("masterdeck.json");
+        BinaryMasterDeckStorage storage = new BinaryMasterDeckStorage(binaryPath);
+        MasterDeck original = GeneratedMasterDecks.getMasterDeck(100_000);
+
+        storage.saveMasterDeck(original);
+        storage.saveMasterDeck(original, jsonPath);
+
+        assertTrue(Files.size(binaryPath) * 2 < Files.size(jsonPath));
+        assertEquals(original, new MasterDeck(storage.readMasterDeck().get()));
+    }
+}
@@ -5,11 +5,16 @@ import static seedu.powercards.storage.JsonAdaptedCard.MISSING_FIELD_MESSAGE_FOR
 import static seedu.powercards.testutil.Assert.assertThrows;
 import static seedu.powercards.testutil.TypicalCards.VARIABLE;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.powercards.commons.exceptions.IllegalValueException;
 import seedu.powercards.model.card.Answer;
+import seedu.powercards.model.card.Card;
 import seedu.powercards.model.card.Question;
+import seedu.powercards.model.card.Schedule;
+import seedu.powercards.model.tag.Tag;
 
 public class JsonAdaptedCardTest {
     private static final String INVALID_QUESTION = " ";
@@ -63,4 +68,37 @@ public class JsonAdaptedCardTest {
         assertThrows(IllegalValueException.class, card::toModelType);
     }
 
+    @Test
+    public void toModelType_cardWithId_keepsId() throws Exception {
+        Card card = VARIABLE.buildCardWithId(42);
+        assertEquals(42, new JsonAdaptedCard(card).toModelType().getId());
+        assertEquals(Card.NO_ID, new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_TAG, VALID_DECK)
+                .toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_tagNameInAnyCase_returnsCard() throws Exception {
+        assertEquals(new Tag(Tag.TagName.HARD),
+                new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, "hArD", VALID_DECK).toModelType().getTag());
+        assertEquals(new Tag(Tag.TagName.UNTAGGED),
+                new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, "untagged", VALID_DECK).toModelType().getTag());
+    }
+
+
+    @Test
+    public void toModelType_scheduledCard_scheduleKept() throws Exception {
+        Card reviewed = VARIABLE.buildCardWithSchedule(new Schedule(236, 6, 2, LocalDate.of(2026, 3, 1).toEpochDay()));
+        assertEquals(reviewed.getSchedule(), new JsonAdaptedCard(reviewed).toModelType().getSchedule());
+        assertEquals(Schedule.NEW, new JsonAdaptedCard(VARIABLE).toModelType().getSchedule());
+    }
+
+    @Test
+    public void toModelType_invalidSchedule_throwsIllegalValueException() {
+        JsonAdaptedCard lowEase = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_TAG, VALID_DECK,
+                null, 100, 1, 1, "2026-03-01");
+        assertThrows(IllegalValueException.class, Schedule.MESSAGE_CONSTRAINTS, lowEase::toModelType);
+        JsonAdaptedCard invalidDue = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_TAG, VALID_DECK,
+                null, 250, 1, 1, "1st March");
+        assertThrows(IllegalValueException.class, Schedule.MESSAGE_CONSTRAINTS, invalidDue::toModelType);
+    }
 }
@@ -1,16 +1,22 @@
 package seedu.powercards.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.powercards.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.powercards.commons.exceptions.IllegalValueException;
 import seedu.powercards.commons.util.JsonUtil;
 import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.Question;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.testutil.GeneratedMasterDecks;
 import seedu.powercards.testutil.TypicalCards;
 
 public class JsonSerializableMasterDeckTest {
@@ -22,6 +28,9 @@ public class JsonSerializableMasterDeckTest {
     private static final Path DUPLICATE_CARD_FILE = TEST_DATA_FOLDER.resolve("duplicateCardMasterDeck.json");
     private static final Path MISSING_DECK_FILE = TEST_DATA_FOLDER.resolve("missingDeckMasterDeck.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalCardsFile_success() throws Exception {
         JsonSerializableMasterDeck dataFromFile = JsonUtil.readJsonFile(TYPICAL_CARDS_FILE,
@@ -54,4 +63,34 @@ public class JsonSerializableMasterDeckTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_largeMasterDeckSavedAndRead_success() throws Exception {
+        Path filePath = testFolder.resolve("large.json");
+        MasterDeck original = GeneratedMasterDecks.getMasterDeck(10_000);
+        JsonUtil.saveJsonFile(new JsonSerializableMasterDeck(original), filePath);
+
+        JsonSerializableMasterDeck dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableMasterDeck.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidCardInLargeMasterDeck_throwsIllegalValueException() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableMasterDeck(GeneratedMasterDecks.getMasterDeck(10_000)))
+                .replace("What is the answer to question 9000?", " ");
+        JsonSerializableMasterDeck dataFromJson = JsonUtil.fromJsonString(json, JsonSerializableMasterDeck.class);
+        assertThrows(IllegalValueException.class, Question.MESSAGE_CONSTRAINTS, dataFromJson::toModelType);
+    }
+
+    @Test
+    public void toModelType_cardsOfDeck_shareDeckInstance() throws Exception {
+        JsonSerializableMasterDeck dataFromFile = JsonUtil.readJsonFile(TYPICAL_CARDS_FILE,
+                JsonSerializableMasterDeck.class).get();
+        MasterDeck masterDeckFromFile = dataFromFile.toModelType();
+        for (Card card : masterDeckFromFile.getCardList()) {
+            Deck deck = card.getDeck();
+            assertSame(masterDeckFromFile.getDeckList().stream().filter(deck::equals).findFirst().get(), deck);
+        }
+    }
+
 }
@@ -0,0 +1,563 @@
+package seedu.powercards.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.powercards.testutil.Assert.assertThrows;
+import static seedu.powercards.testutil.TypicalCards.getTypicalMasterDeck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.powercards.commons.exceptions.DataConversionException;
+import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.ReadOnlyMasterDeck;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+import seedu.powercards.testutil.CardBuilder;
+import seedu.powercards.testutil.GeneratedMasterDecks;
+
+public class ShardedMasterDeckStorageTest {
+
+    private static final FileTime UNTOUCHED = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMasterDeck_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedMasterDeckStorage(testFolder.resolve("missing")).readMasterDeck().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMasterDeck_allInOrder_success() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        MasterDeck original = getTypicalMasterDeck();
+
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(original);
+
+        assertEquals(original.getDeckList().size(), listShards(directory).size());
+        assertEquals(original, new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get()));
+    }
+
+    @Test
+    public void saveMasterDeck_oneCardEdited_onlyItsJournalAppended() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = GeneratedMasterDecks.getMasterDeck(1000, 10);
+        storage.saveMasterDeck(masterDeck);
+        Map<Path, byte[]> before = markUntouched(directory);
+
+        Card target = masterDeck.getCardList().get(0);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(masterDeck);
+
+        // The edit is appended to the journal of the edited deck's shard, and every shard is left as it was.
+        assertShardsUntouched(directory, before);
+        List<Path> journals = listJournals(directory);
+        assertEquals(1, journals.size());
+        assertEquals(1, Files.readAllLines(journals.get(0)).size());
+
+        assertReadBackByDeck(masterDeck, directory);
+    }
+
+    @Test
+    public void saveMasterDeck_changesReachCompactionThreshold_onlyItsShardRewritten() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory, null, false, 1);
+        MasterDeck masterDeck = GeneratedMasterDecks.getMasterDeck(1000, 10);
+        storage.saveMasterDeck(masterDeck);
+        Map<Path, byte[]> before = markUntouched(directory);
+
+        Card target = masterDeck.getCardList().get(0);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(masterDeck);
+
+        // The edited deck's shard is written to a new file, and every other shard is left as it was.
+        List<Path> after = listShards(directory);
+        assertEquals(before.size(), after.size());
+        int rewrittenCount = 0;
+        for (Path shard : after) {
+            if (!before.containsKey(shard)) {
+                rewrittenCount++;
+            } else {
+                assertEquals(UNTOUCHED, Files.getLastModifiedTime(shard));
+                assertTrue(Arrays.equals(before.get(shard), Files.readAllBytes(shard)));
+            }
+        }
+        assertEquals(1, rewrittenCount);
+        assertTrue(listJournals(directory).isEmpty());
+
+        // Cards come back grouped by deck, keeping their order within each deck.
+        assertReadBackByDeck(masterDeck, directory);
+    }
+
+    @Test
+    public void saveMasterDeck_cardsAddedTaggedEditedAndDeleted_journalReplayed() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = GeneratedMasterDecks.getMasterDeck(100, 4);
+        storage.saveMasterDeck(masterDeck);
+        Map<Path, byte[]> before = markUntouched(directory);
+
+        Deck deck = masterDeck.getDeckList().get(1);
+        List<Card> cards = List.copyOf(masterDeck.getCardsInDeck(deck));
+        masterDeck.addCard(new CardBuilder().withQuestion("A new question").withDeck(deck.getDeckName()).build());
+        masterDeck.tagCard(cards.get(0), new Tag(TagName.HARD));
+        masterDeck.setCard(cards.get(1), new CardBuilder(cards.get(1)).withAnswer("An edited answer").build());
+        masterDeck.reviewCard(cards.get(2), new Tag(TagName.HARD), LocalDate.of(2020, 1, 1));
+        masterDeck.removeCard(cards.get(3));
+        storage.saveMasterDeck(masterDeck);
+
+        assertShardsUntouched(directory, before);
+        assertEquals(5, Files.readAllLines(listJournals(directory).get(0)).size());
+        assertReadBackByDeck(masterDeck, directory);
+
+        // Later saves append to the same journal.
+        masterDeck.removeCard(masterDeck.getCardsInDeck(deck).get(0));
+        storage.saveMasterDeck(masterDeck);
+
+        assertEquals(6, Files.readAllLines(listJournals(directory).get(0)).size());
+        assertReadBackByDeck(masterDeck, directory);
+    }
+
+    @Test
+    public void saveMasterDeck_deckRenamed_shardKept() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = GeneratedMasterDecks.getMasterDeck(100, 4);
+        storage.saveMasterDeck(masterDeck);
+        Map<Path, byte[]> before = markUntouched(directory);
+
+        Deck deck = masterDeck.getDeckList().get(2);
+        Deck renamedDeck = new Deck("Renamed deck");
+        masterDeck.setDeck(deck, renamedDeck);
+        masterDeck.moveCards(deck, renamedDeck);
+        storage.saveMasterDeck(masterDeck);
+
+        // Only the manifest lists the shard under the new name.
+        assertShardsUntouched(directory, before);
+        assertTrue(listJournals(directory).isEmpty());
+        assertReadBackByDeck(masterDeck, directory);
+
+        // Edits to the renamed deck are journaled against its old shard.
+        Card target = masterDeck.getCardsInDeck(renamedDeck).get(0);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(masterDeck);
+
+        assertShardsUntouched(directory, before);
+        assertReadBackByDeck(masterDeck, directory);
+    }
+
+    @Test
+    public void saveMasterDeck_journalReachesCompactionThreshold_compactedInBackground() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory, null, false, 3);
+        MasterDeck masterDeck = GeneratedMasterDecks.getMasterDeck(100, 4);
+        storage.saveMasterDeck(masterDeck);
+        Map<Path, byte[]> before = markUntouched(directory);
+
+        Deck deck = masterDeck.getDeckList().get(0);
+        for (int i = 0; i < 3; i++) {
+            Card target = masterDeck.getCardsInDeck(deck).get(i);
+            masterDeck.setCard(target, new CardBuilder(target).withAnswer("Edited answer " + i).build());
+            storage.saveMasterDeck(masterDeck);
+        }
+        storage.awaitCompaction();
+
+        // The shard and its journal are replaced by a new shard, whose counts the manifest lists.
+        List<Path> after = listShards(directory);
+        assertEquals(before.size(), after.size());
+        assertEquals(1, after.stream().filter(shard -> !before.containsKey(shard)).count());
+        assertTrue(listJournals(directory).isEmpty());
+        assertReadBackByDeck(masterDeck, directory);
+        MasterDeck lazyReadBack = (MasterDeck) new ShardedMasterDeckStorage(directory, null, true)
+                .readMasterDeck().get();
+        assertFalse(lazyReadBack.isDeckLoaded(deck));
+        assertEquals(masterDeck.getDeckSize(deck), lazyReadBack.getDeckSize(deck));
+
+        // Saving goes on journaling against the new shard.
+        Card target = masterDeck.getCardsInDeck(deck).get(3);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(masterDeck);
+
+        assertEquals(1, listJournals(directory).size());
+        assertReadBackByDeck(masterDeck, directory);
+    }
+
+    @Test
+    public void readMasterDeck_tornLastJournalRecord_recordIgnored() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = getTypicalMasterDeck();
+        storage.saveMasterDeck(masterDeck);
+        Card target = masterDeck.getCardList().get(0);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(masterDeck);
+
+        // What a crash leaves in the middle of appending a record
+        Path journal = listJournals(directory).get(0);
+        Files.write(journal, "{\"type\":\"DELETE_CA".getBytes(), StandardOpenOption.APPEND);
+
+        assertEquals(masterDeck, new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get()));
+        assertEquals(1, Files.readAllLines(journal).size());
+    }
+
+    @Test
+    public void readMasterDeck_corruptJournalRecord_throwsDataConversionException() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = getTypicalMasterDeck();
+        storage.saveMasterDeck(masterDeck);
+        Card target = masterDeck.getCardList().get(0);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(masterDeck);
+
+        Path journal = listJournals(directory).get(0);
+        List<String> lines = Files.readAllLines(journal);
+        Files.write(journal, List.of("{\"type\":\"DELETE_CA", lines.get(0)));
+
+        assertThrows(DataConversionException.class, new ShardedMasterDeckStorage(directory)::readMasterDeck);
+    }
+
+    @Test
+    public void readMasterDeck_journalOfDeletedCard_throwsDataConversionException() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = getTypicalMasterDeck();
+        storage.saveMasterDeck(masterDeck);
+        masterDeck.removeCard(masterDeck.getCardList().get(0));
+        storage.saveMasterDeck(masterDeck);
+
+        Path journal = listJournals(directory).get(0);
+        Files.write(journal, Files.readAllLines(journal), StandardOpenOption.APPEND);
+
+        assertThrows(DataConversionException.class, new ShardedMasterDeckStorage(directory)::readMasterDeck);
+    }
+
+    @Test
+    public void saveMasterDeck_unchangedAfterRead_nothingRewritten() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(getTypicalMasterDeck());
+        markUntouched(directory);
+        Files.setLastModifiedTime(directory.resolve(ShardedMasterDeckStorage.MANIFEST_FILE_NAME), UNTOUCHED);
+
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        storage.saveMasterDeck(new MasterDeck(storage.readMasterDeck().get()));
+
+        for (Path shard : listShards(directory)) {
+            assertEquals(UNTOUCHED, Files.getLastModifiedTime(shard));
+        }
+        assertEquals(UNTOUCHED, Files.getLastModifiedTime(storage.getManifestFilePath()));
+    }
+
+    @Test
+    public void saveMasterDeck_otherMasterDeckWithSameDecks_onlyChangesJournaled() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        storage.saveMasterDeck(getTypicalMasterDeck());
+        Map<Path, byte[]> before = markUntouched(directory);
+
+        MasterDeck other = getTypicalMasterDeck();
+        Card target = other.getCardList().get(0);
+        other.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(new MasterDeck(other));
+
+        assertShardsUntouched(directory, before);
+        assertEquals(1, listJournals(directory).size());
+        assertEquals(other, new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get()));
+    }
+
+    @Test
+    public void readMasterDeck_saveInterruptedBeforeManifest_previousSaveRead() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        Path interrupted = testFolder.resolve("interrupted");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = getTypicalMasterDeck();
+        storage.saveMasterDeck(masterDeck);
+        MasterDeck previous = new MasterDeck(masterDeck);
+        copyDirectory(directory, interrupted);
+
+        Card target = masterDeck.getCardList().get(0);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        masterDeck.removeCard(masterDeck.getCardList().get(1));
+        storage.saveMasterDeck(masterDeck);
+
+        // What a crash leaves after the new shards are written but before the manifest is replaced
+        for (Path shard : listShards(directory)) {
+            Files.copy(shard, interrupted.resolve(shard.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        assertEquals(previous, new MasterDeck(new ShardedMasterDeckStorage(interrupted).readMasterDeck().get()));
+        assertEquals(masterDeck, new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get()));
+    }
+
+    @Test
+    public void saveMasterDeck_deckAddedAndRemoved_shardsFollowDecks() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = getTypicalMasterDeck();
+        storage.saveMasterDeck(masterDeck);
+
+        Deck removedDeck = masterDeck.getDeckList().get(0);
+        masterDeck.removeDeck(removedDeck);
+        masterDeck.addDeck(new Deck("Biology"));
+        storage.saveMasterDeck(masterDeck);
+
+        assertEquals(masterDeck.getDeckList().size(), listShards(directory).size());
+        assertEquals(masterDeck, new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get()));
+    }
+
+    @Test
+    public void saveMasterDeck_otherPath_writesJson() throws Exception {
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(testFolder.resolve("masterdeck"));
+        Path exportPath = testFolder.resolve("export.json");
+        MasterDeck original = getTypicalMasterDeck();
+
+        storage.saveMasterDeck(original, exportPath);
+
+        assertFalse(BinaryMasterDeckFormat.isBinaryFile(exportPath));
+        assertEquals(original, new MasterDeck(storage.readMasterDeck(exportPath).get()));
+    }
+
+    @Test
+    public void readMasterDeck_corruptShard_throwsDataConversionException() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(getTypicalMasterDeck());
+
+        Path shard = listShards(directory).get(0);
+        byte[] bytes = Files.readAllBytes(shard);
+        Files.write(shard, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(DataConversionException.class, new ShardedMasterDeckStorage(directory)::readMasterDeck);
+    }
+
+    @Test
+    public void readMasterDeck_shardsSwapped_throwsDataConversionException() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(getTypicalMasterDeck());
+
+        List<Path> shards = listShards(directory);
+        byte[] first = Files.readAllBytes(shards.get(0));
+        Files.write(shards.get(0), Files.readAllBytes(shards.get(1)));
+        Files.write(shards.get(1), first);
+
+        assertThrows(DataConversionException.class, new ShardedMasterDeckStorage(directory)::readMasterDeck);
+    }
+
+    @Test
+    public void saveMasterDeck_unlistedShard_deleted() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        Files.createDirectories(directory);
+        Path stray = directory.resolve(ShardedMasterDeckStorage.SHARD_FILE_PREFIX + "99"
+                + ShardedMasterDeckStorage.SHARD_FILE_SUFFIX);
+        Files.write(stray, new byte[] {1, 2, 3});
+        Path strayJournal = directory.resolve(stray.getFileName() + ShardedMasterDeckStorage.JOURNAL_FILE_SUFFIX);
+        Files.write(strayJournal, new byte[] {1, 2, 3});
+
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(getTypicalMasterDeck());
+
+        assertFalse(Files.exists(stray));
+        assertFalse(Files.exists(strayJournal));
+        assertNotEquals(0, listShards(directory).size());
+    }
+
+    @Test
+    public void readMasterDeck_lazy_cardsReadWhenDeckLoaded() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        MasterDeck original = getTypicalMasterDeck();
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(original);
+
+        MasterDeck readBack = (MasterDeck) new ShardedMasterDeckStorage(directory, null, true).readMasterDeck().get();
+
+        assertEquals(original.getDeckList(), readBack.getDeckList());
+        assertTrue(readBack.getCardList().isEmpty());
+        for (Deck deck : original.getDeckList()) {
+            assertFalse(readBack.isDeckLoaded(deck));
+            assertEquals(original.getDeckSize(deck), readBack.getDeckSize(deck));
+            readBack.loadDeck(deck);
+            assertEquals(original.getCardsInDeck(deck), readBack.getCardsInDeck(deck));
+        }
+    }
+
+    @Test
+    public void readMasterDeck_lazy_idsOfUnloadedCardsNotReused() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        MasterDeck original = getTypicalMasterDeck();
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(original);
+        long maxId = original.getCardList().stream().mapToLong(Card::getId).max().getAsLong();
+
+        MasterDeck masterDeck = new MasterDeck(new ShardedMasterDeckStorage(directory, null, true)
+                .readMasterDeck().get());
+        Deck deck = original.getDeckList().get(0);
+        masterDeck.addCard(new CardBuilder().withQuestion("A new question").withDeck(deck.getDeckName()).build());
+
+        assertTrue(masterDeck.getCardsInDeck(deck).stream().anyMatch(card -> card.getId() > maxId));
+    }
+
+    @Test
+    public void saveMasterDeck_lazyWithUnloadedDecks_unloadedShardsKept() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        MasterDeck original = GeneratedMasterDecks.getMasterDeck(1000, 10);
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(original);
+        markUntouched(directory);
+
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory, null, true);
+        MasterDeck masterDeck = new MasterDeck(storage.readMasterDeck().get());
+        Deck editedDeck = original.getDeckList().get(3);
+        masterDeck.loadDeck(editedDeck);
+        Card target = masterDeck.getCardsInDeck(editedDeck).get(0);
+        masterDeck.setCard(target, new CardBuilder(target).withAnswer("An edited answer").build());
+        storage.saveMasterDeck(masterDeck);
+
+        for (Path shard : listShards(directory)) {
+            assertEquals(UNTOUCHED, Files.getLastModifiedTime(shard));
+        }
+        assertEquals(1, listJournals(directory).size());
+
+        MasterDeck readBack = new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get());
+        assertEquals(original.getDeckList(), readBack.getDeckList());
+        assertEquals(masterDeck.getCardsInDeck(editedDeck), readBack.getCardsInDeck(editedDeck));
+        Deck otherDeck = original.getDeckList().get(0);
+        assertEquals(original.getCardsInDeck(otherDeck), readBack.getCardsInDeck(otherDeck));
+    }
+
+    @Test
+    public void readMasterDeck_lazyWithJournal_journaledDeckRead() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory);
+        MasterDeck masterDeck = getTypicalMasterDeck();
+        storage.saveMasterDeck(masterDeck);
+        Deck journaledDeck = masterDeck.getDeckList().get(0);
+        masterDeck.removeCard(masterDeck.getCardsInDeck(journaledDeck).get(0));
+        storage.saveMasterDeck(masterDeck);
+
+        MasterDeck readBack = (MasterDeck) new ShardedMasterDeckStorage(directory, null, true).readMasterDeck().get();
+
+        // The counts in the manifest leave out the changes in the journal.
+        assertTrue(readBack.isDeckLoaded(journaledDeck));
+        assertEquals(masterDeck.getCardsInDeck(journaledDeck), readBack.getCardsInDeck(journaledDeck));
+        for (Deck deck : masterDeck.getDeckList().subList(1, masterDeck.getDeckList().size())) {
+            assertFalse(readBack.isDeckLoaded(deck));
+            assertEquals(masterDeck.getDeckSize(deck), readBack.getDeckSize(deck));
+        }
+    }
+
+    @Test
+    public void saveMasterDeck_lazyOtherPath_exportsEveryDeck() throws Exception {
+        Path directory = testFolder.resolve("masterdeck");
+        MasterDeck original = getTypicalMasterDeck();
+        new ShardedMasterDeckStorage(directory).saveMasterDeck(original);
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory, null, true);
+        Path exportPath = testFolder.resolve("export.json");
+
+        storage.saveMasterDeck(storage.readMasterDeck().get(), exportPath);
+
+        MasterDeck exported = new MasterDeck(new JsonMasterDeckStorage(exportPath).readMasterDeck().get());
+        assertEquals(original.getDeckList(), exported.getDeckList());
+        for (Deck deck : original.getDeckList()) {
+            assertEquals(original.getCardsInDeck(deck), exported.getCardsInDeck(deck));
+        }
+    }
+
+    @Test
+    public void readMasterDeck_noManifest_readsLegacyStorageUntilSaved() throws Exception {
+        Path legacyPath = testFolder.resolve("masterdeck.json");
+        Path directory = ShardedMasterDeckStorage.getShardDirectory(legacyPath);
+        MasterDeck original = getTypicalMasterDeck();
+        new JsonMasterDeckStorage(legacyPath).saveMasterDeck(original);
+
+        ShardedMasterDeckStorage storage = new ShardedMasterDeckStorage(directory,
+                new BinaryMasterDeckStorage(legacyPath), true);
+        ReadOnlyMasterDeck legacyData = storage.readMasterDeck().get();
+        assertEquals(original, new MasterDeck(legacyData));
+
+        storage.saveMasterDeck(legacyData);
+        Files.delete(legacyPath);
+
+        assertTrue(Files.exists(storage.getManifestFilePath()));
+        assertEquals(original, new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get()));
+    }
+
+    /**
+     * Sets the modification time of every shard in {@code directory} to {@link #UNTOUCHED}, so that a rewritten
+     * shard can be told apart, and returns their contents.
+     */
+    private static Map<Path, byte[]> markUntouched(Path directory) throws Exception {
+        Map<Path, byte[]> contents = new HashMap<>();
+        for (Path shard : listShards(directory)) {
+            contents.put(shard, Files.readAllBytes(shard));
+            Files.setLastModifiedTime(shard, UNTOUCHED);
+        }
+        assertTrue(contents.size() > 1);
+        return contents;
+    }
+
+    /**
+     * Asserts that every shard in {@code directory} is one of those marked by {@link #markUntouched(Path)}, and
+     * was left as it was.
+     */
+    private static void assertShardsUntouched(Path directory, Map<Path, byte[]> before) throws Exception {
+        List<Path> shards = listShards(directory);
+        assertEquals(before.keySet(), Set.copyOf(shards));
+        for (Path shard : shards) {
+            assertEquals(UNTOUCHED, Files.getLastModifiedTime(shard));
+            assertTrue(Arrays.equals(before.get(shard), Files.readAllBytes(shard)));
+        }
+    }
+
+    /**
+     * Asserts that {@code directory} holds the decks of {@code masterDeck}, each with its cards in order.
+     */
+    private static void assertReadBackByDeck(MasterDeck masterDeck, Path directory) throws Exception {
+        MasterDeck readBack = new MasterDeck(new ShardedMasterDeckStorage(directory).readMasterDeck().get());
+        assertEquals(masterDeck.getDeckList(), readBack.getDeckList());
+        for (Deck deck : masterDeck.getDeckList()) {
+            assertEquals(masterDeck.getCardsInDeck(deck), readBack.getCardsInDeck(deck));
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws Exception {
+        Files.createDirectories(target);
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, target.resolve(file.getFileName()));
+            }
+        }
+    }
+
+    private static List<Path> listShards(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString()
+                            .endsWith(ShardedMasterDeckStorage.SHARD_FILE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<Path> listJournals(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString()
+                            .endsWith(ShardedMasterDeckStorage.JOURNAL_FILE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.powercards.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import seedu.powercards.commons.exceptions.DataConversionException;
+import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.ModelManager;
+import seedu.powercards.model.ReadOnlyMasterDeck;
+import seedu.powercards.model.UserPrefs;
+import seedu.powercards.testutil.GeneratedMasterDecks;
+
+/**
+ * Times what startup does with a large data file: reading it through {@code BinaryMasterDeckStorage}, as
+ * {@code MainApp} does for a data file not yet split into shards, and building the {@code ModelManager} from the
+ * result.
+ * The data is written as a binary snapshot and as json, both well over 100MB.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=seedu.powercards.storage.StartupLoadBenchmark}.
+ */
+public class StartupLoadBenchmark {
+
+    private static final int CARD_COUNT = 1_500_000;
+    private static final int RUNS = 3;
+
+    /**
+     * Writes the generated master deck in both formats and prints the median read and model build times of each.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        Path dir = Files.createTempDirectory("startup-load-benchmark");
+        Path binaryFile = dir.resolve("masterdeck.bin");
+        Path jsonFile = dir.resolve("masterdeck.json");
+
+        MasterDeck masterDeck = GeneratedMasterDecks.getMasterDeck(CARD_COUNT);
+        new BinaryMasterDeckStorage(binaryFile).saveMasterDeck(masterDeck);
+        new JsonMasterDeckStorage(jsonFile).saveMasterDeck(masterDeck);
+        masterDeck = null;
+
+        System.out.printf("%8s %10s %10s %12s %12s%n", "format", "cards", "size (MB)", "read (ms)", "model (ms)");
+        time("binary", binaryFile);
+        time("json", jsonFile);
+
+        Files.deleteIfExists(binaryFile);
+        Files.deleteIfExists(jsonFile);
+        Files.deleteIfExists(dir);
+    }
+
+    private static void time(String format, Path file) throws IOException, DataConversionException {
+        long[] readTimes = new long[RUNS];
+        long[] modelTimes = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            System.gc();
+            long start = System.nanoTime();
+            ReadOnlyMasterDeck readBack = new BinaryMasterDeckStorage(file).readMasterDeck().get();
+            readTimes[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            new ModelManager(readBack, new UserPrefs());
+            modelTimes[i] = System.nanoTime() - start;
+        }
+        System.out.printf("%8s %10d %10.1f %12.0f %12.0f%n", format, CARD_COUNT, Files.size(file) / 1e6,
+                medianMillis(readTimes), medianMillis(modelTimes));
+    }
+
+    private static double medianMillis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+}
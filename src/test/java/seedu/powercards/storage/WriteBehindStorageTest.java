@@ -0,0 +1,142 @@
+package seedu.powercards.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.powercards.testutil.Assert.assertThrows;
+import static seedu.powercards.testutil.TypicalCards.GRAVITY;
+import static seedu.powercards.testutil.TypicalCards.LOOP;
+import static seedu.powercards.testutil.TypicalCards.getTypicalMasterDeck;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.ReadOnlyMasterDeck;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+import seedu.powercards.testutil.CardBuilder;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonUserPrefsStorage userPrefsStorage;
+
+    @BeforeEach
+    public void setUp() {
+        userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+    }
+
+    @Test
+    public void saveMasterDeck_modifiedAfterSave_writesDeckAsSaved() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonMasterDeckStorage(testFolder.resolve("masterdeck.json")), userPrefsStorage));
+        MasterDeck original = getTypicalMasterDeck();
+
+        storage.saveMasterDeck(original);
+        MasterDeck expected = new MasterDeck(original);
+        original.addCard(GRAVITY);
+        storage.flush();
+
+        assertEquals(expected, new MasterDeck(storage.readMasterDeck().get()));
+    }
+
+    @Test
+    public void saveMasterDeck_cardAddedToEarlierDeck_writesCardsGroupedByDeck() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonMasterDeckStorage(testFolder.resolve("masterdeck.json")), userPrefsStorage));
+        MasterDeck masterDeck = getTypicalMasterDeck();
+        masterDeck.addCard(new CardBuilder(LOOP).withQuestion("What is a nested loop?").build());
+        List<Card> expectedCards = new ArrayList<>();
+        for (Deck deck : masterDeck.getDeckList()) {
+            expectedCards.addAll(masterDeck.getCardsInDeck(deck));
+        }
+
+        storage.saveMasterDeck(masterDeck);
+        storage.flush();
+
+        assertEquals(expectedCards, storage.readMasterDeck().get().getCardList());
+    }
+
+    @Test
+    public void saveMasterDeck_burstOfSaves_coalescedIntoLatest() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        CountingMasterDeckStorage masterDeckStorage = new CountingMasterDeckStorage(
+                testFolder.resolve("masterdeck.json"), firstWriteStarted, releaseFirstWrite);
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(masterDeckStorage, userPrefsStorage));
+        MasterDeck masterDeck = getTypicalMasterDeck();
+
+        storage.saveMasterDeck(masterDeck);
+        firstWriteStarted.await();
+        for (TagName tagName : TagName.values()) {
+            masterDeck.tagCard(masterDeck.getCardsInDeck(LOOP.getDeck()).get(0), new Tag(tagName));
+            storage.saveMasterDeck(masterDeck);
+        }
+        releaseFirstWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, masterDeckStorage.writeCount.get());
+        assertEquals(masterDeck, new MasterDeck(storage.readMasterDeck().get()));
+    }
+
+    @Test
+    public void saveMasterDeck_writeFails_failureReported() throws Exception {
+        IOException failure = new IOException("disk full");
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonMasterDeckStorage(testFolder.resolve("masterdeck.json")) {
+                    @Override
+                    public void saveMasterDeck(ReadOnlyMasterDeck masterDeck, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                }, userPrefsStorage));
+        AtomicReference<IOException> reported = new AtomicReference<>();
+        storage.setWriteFailureHandler(reported::set);
+
+        storage.saveMasterDeck(getTypicalMasterDeck());
+
+        assertThrows(IOException.class, "disk full", storage::flush);
+        assertSame(failure, reported.get());
+    }
+
+    /**
+     * A storage that counts master deck writes and holds up the first one until released.
+     */
+    private static class CountingMasterDeckStorage extends JsonMasterDeckStorage {
+        private final AtomicInteger writeCount = new AtomicInteger();
+        private final CountDownLatch firstWriteStarted;
+        private final CountDownLatch releaseFirstWrite;
+
+        CountingMasterDeckStorage(Path filePath, CountDownLatch firstWriteStarted,
+                                  CountDownLatch releaseFirstWrite) {
+            super(filePath);
+            this.firstWriteStarted = firstWriteStarted;
+            this.releaseFirstWrite = releaseFirstWrite;
+        }
+
+        @Override
+        public void saveMasterDeck(ReadOnlyMasterDeck masterDeck, Path filePath) throws IOException {
+            if (writeCount.incrementAndGet() == 1) {
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie);
+                }
+            }
+            super.saveMasterDeck(masterDeck, filePath);
+        }
+    }
+}
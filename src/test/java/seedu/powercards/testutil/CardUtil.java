@@ -25,8 +25,8 @@ public class CardUtil {
      */
     public static String getCardDetails(Card card) {
         StringBuilder sb = new StringBuilder();
-        sb.append(PREFIX_QUESTION + card.getQuestion().question + " ");
-        sb.append(PREFIX_ANSWER + card.getAnswer().answer + " ");
+        sb.append(PREFIX_QUESTION + card.getQuestion().getText() + " ");
+        sb.append(PREFIX_ANSWER + card.getAnswer().getText() + " ");
         sb.append(PREFIX_TAG + card.getTagName() + " ");
 
         return sb.toString();
@@ -38,8 +38,8 @@ public class CardUtil {
     public static String getEditCardDescriptorDetails(EditCardDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getQuestion().ifPresent(question -> sb.append(PREFIX_QUESTION)
-                .append(question.question).append(" "));
-        descriptor.getAnswer().ifPresent(answer -> sb.append(PREFIX_ANSWER).append(answer.answer).append(" "));
+                .append(question.getText()).append(" "));
+        descriptor.getAnswer().ifPresent(answer -> sb.append(PREFIX_ANSWER).append(answer.getText()).append(" "));
         descriptor.getTag().ifPresent(tag -> sb.append(PREFIX_TAG).append(tag.tagName).append(" "));
         return sb.toString();
     }
@@ -0,0 +1,52 @@
+package seedu.powercards.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.powercards.model.MasterDeck;
+import seedu.powercards.model.card.Answer;
+import seedu.powercards.model.card.Card;
+import seedu.powercards.model.card.Question;
+import seedu.powercards.model.deck.Deck;
+import seedu.powercards.model.tag.Tag;
+import seedu.powercards.model.tag.Tag.TagName;
+
+/**
+ * Builds large master decks with predictable contents, for benchmarks and scale tests.
+ */
+public class GeneratedMasterDecks {
+
+    public static final int DEFAULT_DECK_COUNT = 100;
+
+    /**
+     * Returns a master deck of {@code cardCount} cards spread evenly over {@link #DEFAULT_DECK_COUNT} decks.
+     */
+    public static MasterDeck getMasterDeck(int cardCount) {
+        return getMasterDeck(cardCount, DEFAULT_DECK_COUNT);
+    }
+
+    /**
+     * Returns a master deck of {@code cardCount} cards spread evenly over {@code deckCount} decks,
+     * with tags cycling through every {@code TagName}.
+     */
+    public static MasterDeck getMasterDeck(int cardCount, int deckCount) {
+        List<Deck> decks = new ArrayList<>(deckCount);
+        for (int i = 0; i < deckCount; i++) {
+            decks.add(new Deck("Deck " + i));
+        }
+
+        TagName[] tagNames = TagName.values();
+        List<Card> cards = new ArrayList<>(cardCount);
+        for (int i = 0; i < cardCount; i++) {
+            cards.add(new Card(new Question("What is the answer to question " + i + "?"),
+                    new Answer("This is the answer to question " + i),
+                    new Tag(tagNames[i % tagNames.length]),
+                    decks.get(i % deckCount)));
+        }
+
+        MasterDeck masterDeck = new MasterDeck();
+        masterDeck.setDecks(decks);
+        masterDeck.setCards(cards);
+        return masterDeck;
+    }
+}